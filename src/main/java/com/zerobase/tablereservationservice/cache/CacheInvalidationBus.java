@@ -0,0 +1,22 @@
+package com.zerobase.tablereservationservice.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 브로드캐스트 채널
+ * 데이터를 변경한 노드가 채널에 키를 발행하면, 구독 중인 모든 노드(자기 자신 포함)가 로컬 캐시에서 해당 키를 제거한다.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 무효화 발행
+     * @param channel 캐시 이름
+     * @param key 무효화할 키
+     */
+    void publish(String channel, String key);
+
+    /**
+     * 무효화 구독
+     */
+    void subscribe(String channel, Consumer<String> listener);
+}
@@ -0,0 +1,37 @@
+package com.zerobase.tablereservationservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 프로세스용 무효화 채널
+ * 여러 노드 환경에서는 같은 인터페이스로 Redis pub/sub 등 외부 채널 구현으로 교체한다.
+ */
+@Slf4j
+@Component
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 처리 실패 : {} {} {}", channel, key, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
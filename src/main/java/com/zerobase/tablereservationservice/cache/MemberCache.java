@@ -0,0 +1,53 @@
+package com.zerobase.tablereservationservice.cache;
+
+import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.security.MemberPrincipal;
+import com.zerobase.tablereservationservice.support.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 회원 read-through 캐시 (username -> MemberPrincipal)
+ * 토큰 클레임만으로 회원 ID 를 알 수 없는 경우(회원 ID 클레임이 없는 이전 토큰)에만 사용한다.
+ * 회원 ID / 권한은 가입 후 바뀌지 않으므로 TTL 만료로 충분하다.
+ */
+@Component
+public class MemberCache {
+
+    private final MemberRepository memberRepository;
+    private final TtlLruCache<String, MemberPrincipal> cache;
+
+    public MemberCache(MemberRepository memberRepository,
+                       @Value("${member.cache.max-size:10000}") int maxSize,
+                       @Value("${member.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = new TtlLruCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    /**
+     * 회원 조회 (캐시에 없으면 DB 조회 후 적재)
+     */
+    public Optional<MemberPrincipal> find(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getOrLoad(username, name -> memberRepository.findByUsername(name)
+                .map(member -> new MemberPrincipal(member.getId(), member.getUsername(), member.getRoles()))
+                .orElse(null)));
+    }
+
+    public TtlLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /*
+    * 조회되지 않는 만료 항목 정리
+    * */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void purgeExpired() {
+        cache.purgeExpired();
+    }
+}
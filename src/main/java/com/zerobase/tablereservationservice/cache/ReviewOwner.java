@@ -0,0 +1,13 @@
+package com.zerobase.tablereservationservice.cache;
+
+import com.zerobase.tablereservationservice.persist.projection.ReviewOwnerView;
+
+/**
+ * 리뷰 작성자 / 매장 (리뷰가 삭제될 때까지 바뀌지 않는 값)
+ */
+public record ReviewOwner(Long reviewId, Long authorId, Long storeId) {
+
+    public static ReviewOwner from(ReviewOwnerView view) {
+        return new ReviewOwner(view.getId(), view.getAuthorId(), view.getStoreId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.zerobase.tablereservationservice.cache;
+
+import com.zerobase.tablereservationservice.persist.ReviewRepository;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import com.zerobase.tablereservationservice.support.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 리뷰 수정 / 삭제 권한 확인
+ * 리뷰 ID 별 작성자 / 매장을 프로젝션 한 번으로 읽어 캐시하고 (리뷰가 살아 있는 동안 바뀌지 않음),
+ * 매장 매니저는 매니저 변경 시 무효화되는 StoreCache 에서 확인한다.
+ */
+@Component
+public class ReviewOwnershipResolver {
+
+    public static final String CHANNEL = "review";
+
+    private final ReviewRepository reviewRepository;
+    private final StoreCache storeCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final TtlLruCache<Long, ReviewOwner> cache;
+
+    public ReviewOwnershipResolver(ReviewRepository reviewRepository,
+                                   StoreCache storeCache,
+                                   CacheInvalidationBus invalidationBus,
+                                   @Value("${review.owner-cache.max-size:10000}") int maxSize,
+                                   @Value("${review.owner-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.reviewRepository = reviewRepository;
+        this.storeCache = storeCache;
+        this.invalidationBus = invalidationBus;
+        this.cache = new TtlLruCache<>(maxSize, ttlSeconds * 1000);
+
+        invalidationBus.subscribe(CHANNEL, key -> cache.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 리뷰 작성자 / 매장 조회 (캐시에 없으면 DB 조회 후 적재)
+     */
+    public Optional<ReviewOwner> find(Long reviewId) {
+        if (reviewId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getOrLoad(reviewId,
+                id -> reviewRepository.findOwnerById(id).map(ReviewOwner::from).orElse(null)));
+    }
+
+    /**
+     * 리뷰 작성자 여부
+     */
+    public boolean isAuthor(Long memberId, ReviewOwner owner) {
+        return Objects.equals(owner.authorId(), memberId);
+    }
+
+    /**
+     * 리뷰가 달린 매장의 매니저 여부
+     */
+    public boolean isStoreManager(Long memberId, ReviewOwner owner) {
+        return storeCache.find(owner.storeId())
+                .map(store -> Objects.equals(store.managerId(), memberId))
+                .orElse(false);
+    }
+
+    /**
+     * 리뷰 삭제 커밋 후 모든 노드에 무효화 발행
+     */
+    public void evictAfterCommit(Long reviewId) {
+        TransactionHooks.afterCommit(() -> invalidationBus.publish(CHANNEL, String.valueOf(reviewId)));
+    }
+
+    /*
+    * 조회되지 않는 만료 항목 정리
+    * */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void purgeExpired() {
+        cache.purgeExpired();
+    }
+}
@@ -0,0 +1,69 @@
+package com.zerobase.tablereservationservice.cache;
+
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import com.zerobase.tablereservationservice.support.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 매장 read-through 캐시
+ * 매장 수정 / 매니저 변경 / 삭제가 커밋되면 무효화 채널로 키를 발행하고, 구독한 모든 노드가 로컬 항목을 제거한다.
+ */
+@Component
+public class StoreCache {
+
+    public static final String CHANNEL = "store";
+
+    private final StoreRepository storeRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TtlLruCache<Long, StoreSnapshot> cache;
+
+    public StoreCache(StoreRepository storeRepository,
+                      CacheInvalidationBus invalidationBus,
+                      @Value("${store.cache.max-size:10000}") int maxSize,
+                      @Value("${store.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.storeRepository = storeRepository;
+        this.invalidationBus = invalidationBus;
+        this.cache = new TtlLruCache<>(maxSize, ttlSeconds * 1000);
+
+        invalidationBus.subscribe(CHANNEL, key -> cache.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * 매장 조회 (캐시에 없으면 DB 조회 후 적재)
+     */
+    public Optional<StoreSnapshot> find(Long storeId) {
+        if (storeId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getOrLoad(storeId,
+                id -> storeRepository.findSnapshotById(id).map(StoreSnapshot::from).orElse(null)));
+    }
+
+    public boolean exists(Long storeId) {
+        return find(storeId).isPresent();
+    }
+
+    /**
+     * 매장 변경 커밋 후 모든 노드에 무효화 발행
+     */
+    public void evictAfterCommit(Long storeId) {
+        TransactionHooks.afterCommit(() -> invalidationBus.publish(CHANNEL, String.valueOf(storeId)));
+    }
+
+    public TtlLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /*
+    * 조회되지 않는 만료 항목 정리
+    * */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void purgeExpired() {
+        cache.purgeExpired();
+    }
+}
@@ -0,0 +1,15 @@
+package com.zerobase.tablereservationservice.cache;
+
+import com.zerobase.tablereservationservice.persist.projection.StoreSnapshotView;
+
+/**
+ * 캐시에 보관하는 매장 정보 (엔티티가 아닌 불변 값, 연관 관계 저장 시에는 getReferenceById 사용)
+ */
+public record StoreSnapshot(Long id, String name, String address, String description,
+                            Long managerId, String managerUsername) {
+
+    public static StoreSnapshot from(StoreSnapshotView view) {
+        return new StoreSnapshot(view.getId(), view.getName(), view.getAddress(), view.getDescription(),
+                view.getManagerId(), view.getManagerUsername());
+    }
+}
@@ -0,0 +1,47 @@
+package com.zerobase.tablereservationservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+* 요청 수 제한 설정 (경로별 토큰 버킷)
+* */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /** 경로 + 키별 버킷 최대 개수 (넘으면 새 키는 경로별 공용 버킷을 사용) */
+    private int maxBuckets = 100000;
+
+    /** 가득 찬 상태로 이 시간 동안 사용되지 않은 버킷은 제거 */
+    private long idleSeconds = 600;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** 요청 경로 (Ant 패턴) */
+        private String path;
+
+        /** 버킷 키 (IP : 클라이언트 주소, MEMBER : 로그인 회원 ID, 비로그인이면 주소) */
+        private KeyType key = KeyType.IP;
+
+        private long capacity;
+
+        private double refillPerSecond;
+    }
+
+    public enum KeyType {
+        IP,
+        MEMBER
+    }
+}
@@ -0,0 +1,11 @@
+package com.zerobase.tablereservationservice.except;
+
+/*
+* 비밀번호 해시 작업 대기열이 가득 찬 경우 (503 으로 응답)
+* */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.zerobase.tablereservationservice.except;
+
+public class ReservationHoldException extends RuntimeException {
+
+    public ReservationHoldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,182 @@
+package com.zerobase.tablereservationservice.index;
+
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.SlotClaimRepository;
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.projection.ReservationSlotView;
+import com.zerobase.tablereservationservice.persist.projection.ReviewEligibilityView;
+import com.zerobase.tablereservationservice.persist.projection.StorePopularityView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSearchView;
+import com.zerobase.tablereservationservice.persist.projection.StoreTableView;
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 기동 시 메모리 인덱스 적재
+ * 적재 실패 시 인덱스는 cold 상태로 남고, 서비스는 DB 조회로 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexWarmer {
+
+    private static final int MAX_SLOT_LOAD_ATTEMPTS = 3;
+
+    private final ReservationRepository reservationRepository;
+    private final StoreTableRepository storeTableRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final StoreRepository storeRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreSuggestIndex storeSuggestIndex;
+    private final StoreGeoIndex storeGeoIndex;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReviewEligibilityIndex reviewEligibilityIndex;
+    private final SlotClaimRepository slotClaimRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        backfillSlotClaims();
+        warmReservationSlots();
+        warmStoreSearch();
+        warmReviewEligibility();
+    }
+
+    private void warmReviewEligibility() {
+        try {
+            List<ReviewEligibilityView> pairs = new ArrayList<>(
+                    reservationRepository.findEligiblePairs(ArrivalStatus.ARRIVED, ReservationStatus.CONFIRMED));
+            pairs.addAll(reservationArchiveRepository.findEligiblePairs(ArrivalStatus.ARRIVED, ReservationStatus.CONFIRMED));
+
+            for (ReviewEligibilityView pair : pairs) {
+                reviewEligibilityIndex.load(pair.getMemberId(), pair.getStoreId());
+            }
+            reviewEligibilityIndex.markReady();
+
+            log.info("리뷰 작성 자격 인덱스 적재 완료 : {} 쌍", reviewEligibilityIndex.size());
+        } catch (Exception e) {
+            log.error("리뷰 작성 자격 인덱스 적재 실패 : {}", e.getMessage());
+        }
+    }
+
+    /*
+    * DB 점유 기록이 없는 예약(점유 기록 도입 전 예약 등)을 반영 (여러 노드가 동시에 실행해도 중복 행은 건너뜀)
+    * */
+    private void backfillSlotClaims() {
+        try {
+            int claimed = slotClaimRepository.backfillFrom(
+                    LocalDateTime.now().minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES));
+            log.info("예약 점유 기록 반영 완료 : {} 건", claimed);
+        } catch (Exception e) {
+            log.error("예약 점유 기록 반영 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void warmReservationSlots() {
+        try {
+            // 현재 시간 이전 1시간까지의 예약만 신규 예약과 충돌할 수 있음 (일자 단위로 적재하므로 그날 0시부터)
+            LocalDateTime horizon = LocalDateTime.now().minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES)
+                    .toLocalDate().atStartOfDay();
+            // 테이블 구성을 먼저 적재해야 예약이 테이블 레인에 반영됨
+            Map<Long, List<StoreTableView>> tablesByStore = storeTableRepository.findAllViews().stream()
+                    .collect(Collectors.groupingBy(StoreTableView::getStoreId));
+            tablesByStore.forEach((storeId, tables) -> reservationSlotIndex.addTables(storeId, tables.stream()
+                    .collect(Collectors.toMap(StoreTableView::getId, StoreTableView::getSeats))));
+
+            for (int attempt = 1; attempt <= MAX_SLOT_LOAD_ATTEMPTS; attempt++) {
+                long generation = reservationSlotIndex.coldReleaseGeneration();
+                List<ReservationSlotView> slots = reservationRepository.findSlotsFrom(horizon);
+
+                if (loadSlots(slots, generation)) {
+                    reservationSlotIndex.markReady(horizon);
+                    log.info("예약 점유 인덱스 적재 완료 : 매장 테이블 {} 곳, 예약 {} 건", tablesByStore.size(), slots.size());
+                    return;
+                }
+                log.debug("예약 점유 인덱스 적재 중 점유 해제 발생, 다시 적재 : {} 회", attempt);
+            }
+            log.error("예약 점유 인덱스 적재 실패 : 적재 중 점유 해제가 계속 발생");
+        } catch (Exception e) {
+            log.error("예약 점유 인덱스 적재 실패 : {}", e.getMessage());
+        }
+    }
+
+    /*
+    * 매장 / 일자별로 반영 (먼저 적재된 일자는 건너뛰며, 읽는 동안 점유 해제가 있었으면 false)
+    * */
+    private boolean loadSlots(List<ReservationSlotView> slots, long generation) {
+        Map<Long, Map<LocalDate, List<ReservationSlotIndex.Slot>>> byStoreAndDay = slots.stream()
+                .collect(Collectors.groupingBy(ReservationSlotView::getStoreId,
+                        Collectors.groupingBy(slot -> slot.getReservationTime().toLocalDate(),
+                                Collectors.mapping(slot -> new ReservationSlotIndex.Slot(slot.getTableId(),
+                                        slot.getReservationTime()), Collectors.toList()))));
+
+        for (Map.Entry<Long, Map<LocalDate, List<ReservationSlotIndex.Slot>>> store : byStoreAndDay.entrySet()) {
+            for (Map.Entry<LocalDate, List<ReservationSlotIndex.Slot>> day : store.getValue().entrySet()) {
+                if (!reservationSlotIndex.loadDay(store.getKey(), day.getKey(), day.getValue(), generation)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void warmStoreSearch() {
+        try {
+            List<StoreSearchView> stores = storeRepository.findAllSearchViews();
+            Map<Long, Long> popularity = loadPopularity();
+
+            for (StoreSearchView store : stores) {
+                storeSearchIndex.putIfAbsent(new StoreSearchIndex.StoreDocument(store.getId(),
+                        store.getName(), store.getAddress(), store.getDescription()));
+                storeSuggestIndex.putIfAbsent(store.getId(), store.getName(),
+                        popularity.getOrDefault(store.getId(), 0L));
+                storeGeoIndex.putIfAbsent(new StoreGeoIndex.GeoEntry(store.getId(), store.getName(),
+                        store.getAddress(), store.getLatitude(), store.getLongitude()));
+            }
+            storeSearchIndex.markReady();
+            storeSuggestIndex.markReady();
+            storeGeoIndex.markReady();
+
+            log.info("매장 검색 / 자동완성 / 위치 인덱스 적재 완료 : {} 건", stores.size());
+        } catch (Exception e) {
+            log.error("매장 검색 인덱스 적재 실패 : {}", e.getMessage());
+        }
+    }
+
+    /*
+    * 자동완성 인기도(예약 수) 주기 갱신
+    * */
+    @Scheduled(fixedDelayString = "${store.suggest.refresh-millis:600000}",
+            initialDelayString = "${store.suggest.refresh-millis:600000}")
+    public void refreshSuggestPopularity() {
+        if (!storeSuggestIndex.isReady()) {
+            return;
+        }
+
+        try {
+            int changed = storeSuggestIndex.updatePopularity(loadPopularity());
+            log.debug("자동완성 인기도 갱신 : {} 건", changed);
+        } catch (Exception e) {
+            log.error("자동완성 인기도 갱신 실패 : {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> loadPopularity() {
+        return reservationRepository.countByStore().stream()
+                .collect(Collectors.toMap(StorePopularityView::getStoreId, StorePopularityView::getReservationCount));
+    }
+}
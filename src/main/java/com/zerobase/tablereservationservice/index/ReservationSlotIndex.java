@@ -0,0 +1,574 @@
+package com.zerobase.tablereservationservice.index;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 매장별 / 테이블별 / 일자별 예약 점유 인덱스
+ * 하루를 1분 단위 비트(1440 bit)로 표현하고, 예약 시작 분에 비트를 세운다.
+ * 예약 1건은 앞뒤 1시간을 점유하므로 |요청 시간 - 예약 시간| <= 60분 이면 충돌로 판단한다.
+ *
+ * 테이블을 등록하지 않은 매장은 매장 전체를 하나의 레인(STORE_LANE)으로 취급하고,
+ * 테이블을 등록한 매장은 인원 수 이상인 테이블 중 좌석 수가 가장 작은 빈 테이블을 배정한다.
+ *
+ * 배정 시 테이블을 하나씩 확인하지 않도록, 테이블을 좌석 수 순으로 순위를 매기고
+ * 분마다 "그 시각에 시작하면 겹치는 테이블" 비트(순위 비트)를 함께 유지한다.
+ * 배정은 좌석 수 이진 탐색 + 해당 분의 비트 워드 검사로 O(log T + T/64) (T : 매장 테이블 수),
+ * 점유 / 해제는 앞뒤 1시간(121 분)의 비트만 갱신한다.
+ *
+ * 같은 레인 / 같은 분의 예약이 여러 건이면 건수를 세어 마지막 건이 해제될 때만 비트를 내린다.
+ * DB 에서 적재한 일자는 매장별로 기록하여 한 번만 적재하고, 적재 대상 일자의 점유 해제가 적재 도중에 일어나면
+ * (읽은 결과에 이미 해제된 예약이 포함될 수 있으므로) 적재를 반영하지 않고 다시 읽는다.
+ */
+@Component
+public class ReservationSlotIndex {
+
+    public static final int RESERVATION_MINUTES = 60;
+
+    /** 테이블 미지정 예약이 점유하는 매장 전체 레인 */
+    public static final long STORE_LANE = 0L;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Map<Long, StoreSlots> stores = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime horizon = LocalDateTime.MAX;
+
+    /** 적재되지 않은 일자에 대한 점유 해제 횟수 (적재 도중 해제가 있었는지 비교) */
+    private final AtomicLong coldReleases = new AtomicLong();
+
+    /**
+     * 인덱스가 적재 완료되어 해당 시간의 충돌 여부를 판정할 수 있는지 여부
+     * @param time 예약 시간
+     */
+    public boolean isWarm(LocalDateTime time) {
+        return ready && !time.minusMinutes(RESERVATION_MINUTES).isBefore(horizon);
+    }
+
+    /**
+     * 적재 완료 표시
+     * @param horizon 이 시간 이후의 예약은 모두 인덱스에 반영되어 있음 (일자 시작 시각)
+     */
+    public void markReady(LocalDateTime horizon) {
+        this.horizon = horizon;
+        this.ready = true;
+    }
+
+    /**
+     * 매장의 테이블 구성이 인덱스에 반영되어 있는지 여부
+     */
+    public boolean isInventoryLoaded(Long storeId) {
+        StoreSlots slots = stores.get(storeId);
+        return ready || (slots != null && slots.isInventoryLoaded());
+    }
+
+    /**
+     * 매장의 해당 일자 예약이 인덱스에 반영되어 있는지 여부
+     */
+    public boolean isDayLoaded(Long storeId, LocalDate day) {
+        StoreSlots slots = stores.get(storeId);
+        return isWarmDay(day.toEpochDay()) || (slots != null && slots.isDayLoaded(day.toEpochDay()));
+    }
+
+    /**
+     * 적재 전 기록해 둘 세대 값 (loadDay 에 전달)
+     */
+    public long coldReleaseGeneration() {
+        return coldReleases.get();
+    }
+
+    /**
+     * DB 에서 읽은 매장의 하루 예약 반영 (이미 적재된 일자는 무시)
+     * @param generation 읽기 전에 얻은 coldReleaseGeneration 값
+     * @return 반영했거나 이미 적재된 일자면 true, 읽는 동안 적재되지 않은 일자의 점유 해제가 있었으면 false (다시 읽어야 함)
+     */
+    public boolean loadDay(Long storeId, LocalDate day, List<Slot> reservations, long generation) {
+        return slots(storeId).loadDay(day.toEpochDay(), reservations, generation);
+    }
+
+    /**
+     * 매장 테이블 구성 반영 (기존 테이블은 유지)
+     * @param seatsByTable 테이블 ID 별 좌석 수
+     */
+    public void addTables(Long storeId, Map<Long, Integer> seatsByTable) {
+        slots(storeId).addTables(seatsByTable);
+    }
+
+    /**
+     * 테이블을 배정 대상에서 제외 (점유 정보는 유지, 삭제 트랜잭션이 롤백되면 restoreTable 로 복구)
+     * 확인과 제외를 매장 단위 잠금 안에서 수행하므로, 이후 이 테이블에 새 배정이 일어나지 않는다.
+     * @param from 이 시간 이후 점유(아직 커밋되지 않은 배정 포함)가 있으면 제외하지 않음
+     * @return 제외했거나 인덱스에 없는 테이블이면 true, 점유가 남아 있으면 false
+     */
+    public boolean withdrawTable(Long storeId, Long tableId, LocalDateTime from) {
+        StoreSlots slots = stores.get(storeId);
+        return slots == null || slots.withdrawTable(tableId, toMinute(from));
+    }
+
+    /**
+     * withdrawTable 로 제외한 테이블 복구 (테이블 구성이 적재된 매장만)
+     */
+    public void restoreTable(Long storeId, Long tableId, int seats) {
+        StoreSlots slots = stores.get(storeId);
+        if (slots != null) {
+            slots.restoreTable(tableId, seats);
+        }
+    }
+
+    /**
+     * 테이블 제거
+     */
+    public void removeTable(Long storeId, Long tableId) {
+        StoreSlots slots = stores.get(storeId);
+        if (slots != null) {
+            slots.removeTable(tableId);
+        }
+    }
+
+    /**
+     * 기간 내 예약 가능한 시작 시간 목록
+     * @param from 시작 시간 (포함)
+     * @param to 종료 시간 (미포함)
+     * @param stepMinutes 시작 시간 간격 (분)
+     */
+    public List<LocalDateTime> findFreeSlots(Long storeId, LocalDateTime from, LocalDateTime to,
+                                             int stepMinutes, int partySize) {
+        StoreSlots slots = stores.get(storeId);
+        List<LocalDateTime> result = new ArrayList<>();
+
+        for (long minute = toMinute(from); minute < toMinute(to); minute += stepMinutes) {
+            if (slots == null || slots.findFree(minute, partySize, Set.of()) != null) {
+                result.add(toTime(minute));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 빈 테이블 확인과 점유를 매장 단위 잠금 안에서 원자적으로 수행
+     * 이 노드의 배정만 반영하므로 결과는 후보일 뿐이고, 확정은 DB 점유 기록으로 한다 (SlotAllocator).
+     * @param excluded 다른 노드가 이미 점유한 것으로 확인되어 건너뛸 테이블 ID
+     * @return 배정된 테이블 ID (테이블 미등록 매장은 STORE_LANE), 빈 테이블이 없으면 null
+     */
+    public Long tryAllocate(Long storeId, LocalDateTime time, int partySize, Set<Long> excluded) {
+        return slots(storeId).tryAllocate(toMinute(time), partySize, excluded);
+    }
+
+    /**
+     * 예약 시간 점유 해제 (같은 시간 예약이 여러 건이면 한 건만)
+     */
+    public void release(Long storeId, Long tableId, LocalDateTime time) {
+        long minute = toMinute(time);
+        slots(storeId).clear(laneOf(tableId), minute, isWarmDay(Math.floorDiv(minute, MINUTES_PER_DAY)));
+    }
+
+    /**
+     * 매장 삭제 시 매장의 점유 정보 전체 제거
+     */
+    public void evictStore(Long storeId) {
+        stores.remove(storeId);
+    }
+
+    /**
+     * 기준 시간 이전 일자의 점유 비트맵 제거
+     */
+    public void pruneBefore(LocalDateTime time) {
+        long day = time.toLocalDate().toEpochDay();
+        stores.values().forEach(slots -> slots.pruneBefore(day));
+    }
+
+    private StoreSlots slots(Long storeId) {
+        return stores.computeIfAbsent(storeId, id -> new StoreSlots(coldReleases));
+    }
+
+    private boolean isWarmDay(long day) {
+        return ready && day >= horizon.toLocalDate().toEpochDay();
+    }
+
+    private static long laneOf(Long tableId) {
+        return tableId == null ? STORE_LANE : tableId;
+    }
+
+    private static long toMinute(LocalDateTime time) {
+        return time.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + time.getHour() * 60L
+                + time.getMinute();
+    }
+
+    private static LocalDateTime toTime(long minute) {
+        return LocalDate.ofEpochDay(Math.floorDiv(minute, MINUTES_PER_DAY))
+                .atStartOfDay()
+                .plusMinutes(Math.floorMod(minute, MINUTES_PER_DAY));
+    }
+
+    /*
+    * 한 매장의 테이블 구성과 레인별 점유 비트맵
+    * 테이블 미지정 예약(STORE_LANE)은 매장 전체를 점유한다.
+    * */
+    private static class StoreSlots {
+
+        private static final long[] NO_TABLES = new long[0];
+
+        private final Map<Long, Lane> lanes = new HashMap<>();
+        private final Map<Long, Integer> seats = new HashMap<>();
+        private boolean inventoryLoaded;
+
+        /** DB 에서 적재한 일자 */
+        private final Set<Long> loadedDays = new HashSet<>();
+        private final AtomicLong coldReleases;
+
+        /** 좌석 수 오름차순(같으면 테이블 ID 순) 테이블 ID / 좌석 수, 배열 인덱스가 순위 */
+        private long[] rankedTables = NO_TABLES;
+        private int[] rankedSeats = new int[0];
+        private final Map<Long, Integer> ranks = new HashMap<>();
+
+        /** 순위 비트 워드 수 (테이블 64 개당 1) */
+        private int words = 1;
+
+        /** 일자별 [분 * words + 순위 / 64] : 그 분에 시작하면 겹치는 테이블 순위 비트 */
+        private final Map<Long, long[]> blocked = new HashMap<>();
+
+        StoreSlots(AtomicLong coldReleases) {
+            this.coldReleases = coldReleases;
+        }
+
+        synchronized boolean isInventoryLoaded() {
+            return inventoryLoaded;
+        }
+
+        synchronized boolean isDayLoaded(long day) {
+            return loadedDays.contains(day);
+        }
+
+        /*
+        * 세대 확인과 반영을 같은 잠금 안에서 수행 (해제는 이 잠금 안에서 세대를 올림)
+        * */
+        synchronized boolean loadDay(long day, List<Slot> reservations, long generation) {
+            if (loadedDays.contains(day)) {
+                return true;
+            }
+            if (coldReleases.get() != generation) {
+                return false;
+            }
+            for (Slot reservation : reservations) {
+                long minute = toMinute(reservation.time());
+                if (Math.floorDiv(minute, MINUTES_PER_DAY) == day) {
+                    set(laneOf(reservation.tableId()), minute);
+                }
+            }
+            loadedDays.add(day);
+            return true;
+        }
+
+        synchronized void addTables(Map<Long, Integer> seatsByTable) {
+            boolean changed = false;
+            for (Map.Entry<Long, Integer> table : seatsByTable.entrySet()) {
+                changed |= seats.putIfAbsent(table.getKey(), table.getValue()) == null;
+            }
+            if (changed) {
+                rerank();
+            }
+            inventoryLoaded = true;
+        }
+
+        synchronized boolean withdrawTable(Long tableId, long fromMinute) {
+            Lane lane = lanes.get(tableId);
+            if (lane != null && lane.hasAnyFrom(fromMinute)) {
+                return false;
+            }
+            if (seats.remove(tableId) != null) {
+                rerank();
+            }
+            return true;
+        }
+
+        synchronized void restoreTable(Long tableId, int tableSeats) {
+            if (inventoryLoaded && seats.putIfAbsent(tableId, tableSeats) == null) {
+                rerank();
+            }
+        }
+
+        synchronized void removeTable(Long tableId) {
+            boolean ranked = seats.remove(tableId) != null;
+            lanes.remove(tableId);
+            if (ranked) {
+                rerank();
+            }
+        }
+
+        synchronized Long tryAllocate(long minute, int partySize, Set<Long> excluded) {
+            Long tableId = findFree(minute, partySize, excluded);
+            if (tableId != null) {
+                set(tableId, minute);
+            }
+            return tableId;
+        }
+
+        /*
+        * 인원 수 이상 좌석 중 가장 작은 빈 테이블 (best-fit)
+        * 인원 수를 수용하는 첫 순위를 이진 탐색한 뒤, 그 분의 순위 비트에서 비어 있는 가장 낮은 순위를 찾는다.
+        * */
+        synchronized Long findFree(long minute, int partySize, Set<Long> excluded) {
+
+            if (overlaps(STORE_LANE, minute)) {
+                return null;
+            }
+
+            if (seats.isEmpty()) {
+                return excluded.contains(STORE_LANE) ? null : STORE_LANE;
+            }
+
+            int first = firstRankWithSeats(partySize);
+            if (first == rankedTables.length) {
+                return null;
+            }
+
+            long[] day = blocked.get(Math.floorDiv(minute, MINUTES_PER_DAY));
+            int base = (int) Math.floorMod(minute, MINUTES_PER_DAY) * words;
+            for (int word = first >>> 6; word < words; word++) {
+                long free = day == null ? -1L : ~day[base + word];
+                if (word == first >>> 6) {
+                    free &= -1L << (first & 63);
+                }
+                for (; free != 0; free &= free - 1) {
+                    int rank = (word << 6) + Long.numberOfTrailingZeros(free);
+                    // 마지막 워드의 남는 비트는 항상 0 이므로 순위 범위를 넘으면 빈 테이블 없음
+                    if (rank >= rankedTables.length) {
+                        return null;
+                    }
+                    if (!excluded.contains(rankedTables[rank])) {
+                        return rankedTables[rank];
+                    }
+                }
+            }
+            return null;
+        }
+
+        synchronized void set(long lane, long minute) {
+            lanes.computeIfAbsent(lane, l -> new Lane()).set(minute);
+
+            Integer rank = ranks.get(lane);
+            if (rank != null) {
+                block(rank, minute);
+            }
+        }
+
+        /*
+        * 적재되지 않은 일자의 해제는 반영할 점유가 없으므로 세대만 올림 (진행 중인 적재가 다시 읽도록)
+        * */
+        synchronized void clear(long lane, long minute, boolean warmDay) {
+            if (!warmDay && !loadedDays.contains(Math.floorDiv(minute, MINUTES_PER_DAY))) {
+                coldReleases.incrementAndGet();
+                return;
+            }
+
+            Lane slots = lanes.get(lane);
+            if (slots == null || !slots.clear(minute)) {
+                return;
+            }
+
+            Integer rank = ranks.get(lane);
+            if (rank != null) {
+                unblock(rank, slots, minute);
+            }
+        }
+
+        synchronized void pruneBefore(long day) {
+            lanes.values().forEach(lane -> lane.pruneBefore(day));
+            blocked.keySet().removeIf(d -> d < day);
+            loadedDays.removeIf(d -> d < day);
+        }
+
+        private boolean overlaps(long lane, long minute) {
+            Lane slots = lanes.get(lane);
+            return slots != null && slots.overlaps(minute);
+        }
+
+        /*
+        * 좌석 수 >= partySize 인 첫 순위 (없으면 테이블 수)
+        * */
+        private int firstRankWithSeats(int partySize) {
+            int lo = 0;
+            int hi = rankedSeats.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (rankedSeats[mid] < partySize) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /*
+        * 예약 시작 분 앞뒤 1시간 동안 해당 순위 테이블을 사용 불가로 표시
+        * */
+        private void block(int rank, long start) {
+            for (long minute = start - RESERVATION_MINUTES; minute <= start + RESERVATION_MINUTES; minute++) {
+                long[] day = blocked.computeIfAbsent(Math.floorDiv(minute, MINUTES_PER_DAY),
+                        d -> new long[MINUTES_PER_DAY * words]);
+                day[(int) Math.floorMod(minute, MINUTES_PER_DAY) * words + (rank >>> 6)] |= 1L << rank;
+            }
+        }
+
+        /*
+        * 해제한 예약 앞뒤 1시간 중 다른 예약과 겹치지 않게 된 분만 사용 가능으로 되돌림
+        * */
+        private void unblock(int rank, Lane lane, long start) {
+            for (long minute = start - RESERVATION_MINUTES; minute <= start + RESERVATION_MINUTES; minute++) {
+                long[] day = blocked.get(Math.floorDiv(minute, MINUTES_PER_DAY));
+                if (day != null && !lane.overlaps(minute)) {
+                    day[(int) Math.floorMod(minute, MINUTES_PER_DAY) * words + (rank >>> 6)] &= ~(1L << rank);
+                }
+            }
+        }
+
+        /*
+        * 테이블 구성이 바뀌면 순위를 다시 매기고 사용 불가 비트를 레인 점유로부터 다시 계산 (테이블 등록 / 삭제 시에만)
+        * */
+        private void rerank() {
+            List<Map.Entry<Long, Integer>> tables = new ArrayList<>(seats.entrySet());
+            tables.sort(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+            rankedTables = new long[tables.size()];
+            rankedSeats = new int[tables.size()];
+            ranks.clear();
+            for (int rank = 0; rank < tables.size(); rank++) {
+                rankedTables[rank] = tables.get(rank).getKey();
+                rankedSeats[rank] = tables.get(rank).getValue();
+                ranks.put(rankedTables[rank], rank);
+            }
+
+            words = Math.max(1, (tables.size() + 63) >>> 6);
+            blocked.clear();
+            ranks.forEach((tableId, rank) -> {
+                Lane lane = lanes.get(tableId);
+                if (lane != null) {
+                    lane.forEachStart(start -> block(rank, start));
+                }
+            });
+        }
+    }
+
+    /*
+    * 한 레인(테이블)의 일자별 점유 비트맵
+    * 같은 분에 두 건 이상 점유되면 초과 건수를 따로 센다 (대부분 한 건이므로 비트맵만 사용).
+    * */
+    private static class Lane {
+
+        private final Map<Long, BitSet> days = new HashMap<>();
+
+        /** 분 -> 비트 외 추가 점유 건수 */
+        private final Map<Long, Integer> duplicates = new HashMap<>();
+
+        void set(long minute) {
+            BitSet bits = days.computeIfAbsent(Math.floorDiv(minute, MINUTES_PER_DAY), day -> new BitSet(MINUTES_PER_DAY));
+            int bit = (int) Math.floorMod(minute, MINUTES_PER_DAY);
+
+            if (bits.get(bit)) {
+                duplicates.merge(minute, 1, Integer::sum);
+            } else {
+                bits.set(bit);
+            }
+        }
+
+        /*
+        * @return 마지막 점유가 해제되어 비트를 내렸으면 true
+        * */
+        boolean clear(long minute) {
+            Integer duplicate = duplicates.get(minute);
+            if (duplicate != null) {
+                if (duplicate == 1) {
+                    duplicates.remove(minute);
+                } else {
+                    duplicates.put(minute, duplicate - 1);
+                }
+                return false;
+            }
+
+            long day = Math.floorDiv(minute, MINUTES_PER_DAY);
+            BitSet bits = days.get(day);
+            int bit = (int) Math.floorMod(minute, MINUTES_PER_DAY);
+
+            if (bits == null || !bits.get(bit)) {
+                return false;
+            }
+
+            bits.clear(bit);
+            if (bits.isEmpty()) {
+                days.remove(day);
+            }
+            return true;
+        }
+
+        void pruneBefore(long day) {
+            days.keySet().removeIf(d -> d < day);
+            duplicates.keySet().removeIf(minute -> Math.floorDiv(minute, MINUTES_PER_DAY) < day);
+        }
+
+        /*
+        * fromMinute 이후 예약 시작 분이 있는지 여부
+        * */
+        boolean hasAnyFrom(long fromMinute) {
+            long fromDay = Math.floorDiv(fromMinute, MINUTES_PER_DAY);
+            for (Map.Entry<Long, BitSet> day : days.entrySet()) {
+                if (day.getKey() > fromDay
+                        || (day.getKey() == fromDay
+                        && day.getValue().nextSetBit((int) Math.floorMod(fromMinute, MINUTES_PER_DAY)) >= 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void forEachStart(LongConsumer action) {
+            days.forEach((day, bits) -> {
+                for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                    action.accept(day * MINUTES_PER_DAY + bit);
+                }
+            });
+        }
+
+        boolean overlaps(long minute) {
+            long from = minute - RESERVATION_MINUTES;
+            long to = minute + RESERVATION_MINUTES;
+
+            for (long day = Math.floorDiv(from, MINUTES_PER_DAY); day <= Math.floorDiv(to, MINUTES_PER_DAY); day++) {
+                BitSet bits = days.get(day);
+                if (bits == null) {
+                    continue;
+                }
+
+                long dayStart = day * MINUTES_PER_DAY;
+                int lo = (int) (Math.max(from, dayStart) - dayStart);
+                int hi = (int) (Math.min(to, dayStart + MINUTES_PER_DAY - 1) - dayStart);
+
+                int next = bits.nextSetBit(lo);
+                if (next >= 0 && next <= hi) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * DB 에서 읽은 예약 한 건 (테이블 미지정이면 tableId 는 null)
+     */
+    public record Slot(Long tableId, LocalDateTime time) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.zerobase.tablereservationservice.index;
+
+import com.zerobase.tablereservationservice.support.LongHashSet;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 리뷰 작성 자격 인덱스 (방문 완료 + 승인된 예약이 있는 회원 / 매장 쌍)
+ * 회원 ID 를 상위 32비트, 매장 ID 를 하위 32비트에 담은 long 하나로 LongHashSet 에 보관하여
+ * 리뷰 등록 시 예약 / 보관 테이블을 조회하지 않고 해시 조회 한 번으로 판단한다.
+ * ID 가 32비트를 넘거나 적재 전이면 canAnswer 가 false 이므로 DB 로 판단한다.
+ */
+@Component
+public class ReviewEligibilityIndex {
+
+    private static final long MAX_ID = 0xffffffffL;
+
+    private final LongHashSet pairs = new LongHashSet(1 << 12);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 적재 중 자격이 없어진 쌍 (적재 스냅샷으로 되살아나지 않도록 적재 완료 전까지 보관) */
+    private final LongHashSet removedWhileLoading = new LongHashSet();
+
+    /** 재확인 중인 쌍 -> 재확인 상태 (진행 중인 재확인이 있는 쌍만 보관) */
+    private final Map<Long, Revalidation> revalidating = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스만으로 자격 여부를 판단할 수 있는지 여부
+     */
+    public boolean canAnswer(Long memberId, Long storeId) {
+        return ready && packable(memberId, storeId);
+    }
+
+    public boolean contains(Long memberId, Long storeId) {
+        lock.readLock().lock();
+        try {
+            return pairs.contains(key(memberId, storeId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 방문 완료 + 승인 반영 (커밋 후 호출)
+     */
+    public void add(Long memberId, Long storeId) {
+        if (!packable(memberId, storeId)) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long key = key(memberId, storeId);
+            pairs.add(key);
+            removedWhileLoading.remove(key);
+
+            Revalidation revalidation = revalidating.get(key);
+            if (revalidation != null) {
+                revalidation.adds++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 적재용 (적재 중 자격이 없어진 쌍은 덮어쓰지 않음)
+     */
+    public void load(Long memberId, Long storeId) {
+        if (!packable(memberId, storeId)) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long key = key(memberId, storeId);
+            if (!removedWhileLoading.contains(key)) {
+                pairs.add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 예약 취소 / 거절로 자격이 없어졌을 수 있는 쌍 재확인 (커밋 후 호출)
+     * DB 확인은 잠금 밖에서 하고, 확인하는 동안 같은 쌍에 add 가 있었으면 제거하지 않는다
+     * (그 사이 커밋된 다른 예약의 반영이 제거로 덮어써지지 않도록).
+     * @param stillEligible 다른 방문 완료 + 승인 예약이 남아 있는지 DB 확인
+     */
+    public void revalidate(Long memberId, Long storeId, BooleanSupplier stillEligible) {
+        if (!packable(memberId, storeId)) {
+            return;
+        }
+
+        long key = key(memberId, storeId);
+        Revalidation revalidation;
+        long addsBefore;
+
+        lock.writeLock().lock();
+        try {
+            revalidation = revalidating.computeIfAbsent(key, k -> new Revalidation());
+            revalidation.pending++;
+            addsBefore = revalidation.adds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        boolean eligible = true;
+        try {
+            eligible = stillEligible.getAsBoolean();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (!eligible && revalidation.adds == addsBefore) {
+                    pairs.remove(key);
+                    if (!ready) {
+                        removedWhileLoading.add(key);
+                    }
+                }
+                if (--revalidation.pending == 0) {
+                    revalidating.remove(key);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return pairs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean packable(Long memberId, Long storeId) {
+        return memberId != null && storeId != null
+                && memberId > 0 && memberId <= MAX_ID && storeId > 0 && storeId <= MAX_ID;
+    }
+
+    private static long key(Long memberId, Long storeId) {
+        return (memberId << 32) | storeId;
+    }
+
+    /*
+    * 쌍별 재확인 상태 (쓰기 잠금 안에서만 변경)
+    * */
+    private static final class Revalidation {
+
+        /** 진행 중인 재확인 수 */
+        private int pending;
+
+        /** 재확인 중 add 횟수 */
+        private long adds;
+    }
+}
@@ -0,0 +1,187 @@
+package com.zerobase.tablereservationservice.index;
+
+import com.zerobase.tablereservationservice.except.ReservationTimeException;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.SlotClaimRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.projection.StoreTableView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 테이블 배정기
+ * 점유 인덱스가 적재되지 않은 시간대는 매장 / 일자 단위로 DB 의 테이블 구성과 예약을 인덱스에 한 번 채운 뒤 배정한다.
+ * 인덱스는 이 노드의 배정만 알기 때문에 빈 테이블 후보를 고르는 데만 쓰고, 배정 확정은 호출한 트랜잭션 안에서
+ * DB 점유 기록(SlotClaimRepository)으로 한다. 다른 노드가 먼저 점유한 테이블은 제외하고 다시 고른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotAllocator {
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ReservationRepository reservationRepository;
+    private final StoreTableRepository storeTableRepository;
+    private final SlotClaimRepository slotClaimRepository;
+
+    /**
+     * 인원 수를 수용할 수 있는 가장 작은 빈 테이블 배정 (트랜잭션 안에서 호출, 롤백 시 release 필요)
+     * @return 배정된 테이블 ID (테이블 미등록 매장은 STORE_LANE), 빈 테이블이 없으면 null
+     */
+    public Long allocate(Long storeId, LocalDateTime time, int partySize) {
+        prepare(storeId, time, time);
+        return claim(storeId, time, partySize, null, null);
+    }
+
+    /**
+     * prepare 를 이미 호출한 매장의 배정 (일괄 예약)
+     */
+    public Long allocatePrepared(Long storeId, LocalDateTime time, int partySize) {
+        return claim(storeId, time, partySize, null, null);
+    }
+
+    /**
+     * 임시 점유 배정 (expiresAt 이 지나면 DB 점유 기록은 점유로 보지 않음)
+     */
+    public Long allocateHold(Long storeId, LocalDateTime time, int partySize, String holdId, LocalDateTime expiresAt) {
+        prepare(storeId, time, time);
+        return claim(storeId, time, partySize, holdId, expiresAt);
+    }
+
+    /**
+     * 임시 점유를 예약 점유로 확정
+     * @return 이미 만료되어 확정하지 못했으면 false
+     */
+    public boolean confirmHold(String holdId) {
+        return slotClaimRepository.confirmHold(holdId, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 임시 점유의 DB 점유 기록 삭제 (인덱스 해제는 release)
+     */
+    public void unclaimHold(String holdId) {
+        slotClaimRepository.deleteHold(holdId);
+    }
+
+    /**
+     * 취소 / 거절된 예약의 DB 점유 기록 삭제 (트랜잭션 안에서 호출, 인덱스 해제는 커밋 후 release)
+     */
+    public void unclaim(Long storeId, Long tableId, LocalDateTime time) {
+        slotClaimRepository.deleteClaim(storeId, laneOf(tableId), time);
+    }
+
+    /**
+     * 인덱스 배정 해제
+     */
+    public void release(Long storeId, Long tableId, LocalDateTime time) {
+        reservationSlotIndex.release(storeId, tableId, time);
+    }
+
+    /**
+     * 기간 내 예약 가능한 시작 시간 목록
+     */
+    public List<LocalDateTime> findFreeSlots(Long storeId, LocalDateTime from, LocalDateTime to,
+                                             int stepMinutes, int partySize) {
+        prepare(storeId, from, to);
+        return reservationSlotIndex.findFreeSlots(storeId, from, to, stepMinutes, partySize);
+    }
+
+    /**
+     * 기간 내 배정에 필요한 테이블 구성과 예약을 인덱스에 반영
+     * 일괄 예약처럼 같은 매장을 여러 번 배정할 때 한 번만 호출하도록 분리
+     */
+    public void prepare(Long storeId, LocalDateTime from, LocalDateTime to) {
+
+        if(!reservationSlotIndex.isInventoryLoaded(storeId)){
+            reservationSlotIndex.addTables(storeId, storeTableRepository.findViewsByStoreId(storeId).stream()
+                    .collect(Collectors.toMap(StoreTableView::getId, StoreTableView::getSeats)));
+        }
+
+        if(reservationSlotIndex.isWarm(from)){
+            return;
+        }
+
+        LocalDate last = to.plusMinutes(ReservationSlotIndex.RESERVATION_MINUTES).toLocalDate();
+        for (LocalDate day = from.minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES).toLocalDate();
+             !day.isAfter(last); day = day.plusDays(1)) {
+            loadDay(storeId, day);
+        }
+    }
+
+    /*
+    * 인덱스에서 고른 테이블을 DB 에 점유 기록하고, 다른 노드가 먼저 점유한 테이블이면 인덱스 배정을 되돌린 뒤 제외하고 다시 고름
+    * 잠금 대기 초과 / 교착 / 유니크 키 충돌은 동시에 같은 시간을 예약한 경우이므로 재시도 안내
+    * */
+    private Long claim(Long storeId, LocalDateTime time, int partySize, String holdId, LocalDateTime expiresAt) {
+        Set<Long> excluded = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = time.minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES);
+        LocalDateTime to = time.plusMinutes(ReservationSlotIndex.RESERVATION_MINUTES);
+
+        while (true) {
+            Long tableId = reservationSlotIndex.tryAllocate(storeId, time, partySize, excluded);
+            if (tableId == null) {
+                return null;
+            }
+
+            boolean claimed;
+            try {
+                slotClaimRepository.deleteExpiredAt(storeId, tableId, time, now);
+                claimed = (tableId == ReservationSlotIndex.STORE_LANE
+                        ? slotClaimRepository.claimStore(storeId, time, from, to, holdId, expiresAt, now)
+                        : slotClaimRepository.claimLane(storeId, tableId, time, from, to, holdId, expiresAt, now)) > 0;
+            } catch (PessimisticLockingFailureException | DataIntegrityViolationException e) {
+                reservationSlotIndex.release(storeId, tableId, time);
+                throw new ReservationTimeException("같은 시간에 다른 예약이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            } catch (RuntimeException e) {
+                reservationSlotIndex.release(storeId, tableId, time);
+                throw e;
+            }
+
+            if (claimed) {
+                return tableId;
+            }
+            reservationSlotIndex.release(storeId, tableId, time);
+            excluded.add(tableId);
+        }
+    }
+
+    private static Long laneOf(Long tableId) {
+        return tableId == null ? ReservationSlotIndex.STORE_LANE : tableId;
+    }
+
+    /*
+    * 매장의 하루 예약을 한 번만 적재
+    * 읽는 동안 적재되지 않은 일자의 점유 해제가 있었으면, 읽은 결과에 해제된 예약이 남아 있을 수 있으므로 다시 읽음
+    * */
+    private void loadDay(Long storeId, LocalDate day) {
+
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            if(reservationSlotIndex.isDayLoaded(storeId, day)){
+                return;
+            }
+
+            long generation = reservationSlotIndex.coldReleaseGeneration();
+            List<ReservationSlotIndex.Slot> reservations = reservationRepository.findSlots(storeId,
+                            day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                    .stream()
+                    .map(slot -> new ReservationSlotIndex.Slot(slot.getTableId(), slot.getReservationTime()))
+                    .toList();
+
+            if(reservationSlotIndex.loadDay(storeId, day, reservations, generation)){
+                return;
+            }
+        }
+        throw new RuntimeException("예약 현황을 불러오지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,239 @@
+package com.zerobase.tablereservationservice.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 위치 격자 인덱스
+ * 위도 / 경도를 CELL_DEGREES(약 1km) 격자로 나누어 격자별 매장 목록을 유지한다.
+ * 반경 조회는 반경을 감싸는 격자만 확인하고, 후보에 대해서만 하버사인 거리를 계산한다.
+ */
+@Component
+public class StoreGeoIndex {
+
+    public static final double CELL_DEGREES = 0.01;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final Map<Long, GeoEntry> entries = new HashMap<>();
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 적재 중 삭제된 매장 (적재 스냅샷으로 되살아나지 않도록 적재 완료 전까지 보관) */
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 등록 / 수정 반영 (좌표가 없으면 인덱스에서 제외)
+     */
+    public void put(GeoEntry entry) {
+        lock.writeLock().lock();
+        try {
+            unlink(entry.id());
+            if (entry.hasLocation()) {
+                link(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 적재용 (적재 중 먼저 반영된 등록 / 수정 / 삭제는 덮어쓰지 않음)
+     */
+    public void putIfAbsent(GeoEntry entry) {
+        lock.writeLock().lock();
+        try {
+            if (entry.hasLocation() && !removedWhileLoading.contains(entry.id()) && !entries.containsKey(entry.id())) {
+                link(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            unlink(storeId);
+            if (!ready) {
+                removedWhileLoading.add(storeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 매장 목록 (거리 오름차순, 같으면 매장 ID 오름차순)
+     * @param radiusMeters 반경 (m)
+     */
+    public List<Nearby> findWithin(double latitude, double longitude, double radiusMeters) {
+
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        double lngSpan = longitudeSpan(latitude, radiusMeters);
+
+        int minLat = cellOf(Math.max(-90, latitude - latSpan));
+        int maxLat = cellOf(Math.min(90, latitude + latSpan));
+        int minLng = cellOf(longitude - lngSpan);
+        int maxLng = cellOf(longitude + lngSpan);
+
+        List<Nearby> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (int latCell = minLat; latCell <= maxLat; latCell++) {
+                for (int lngCell = minLng; lngCell <= maxLng && lngCell - minLng < LNG_CELLS; lngCell++) {
+                    Set<Long> ids = cells.get(key(latCell, wrapLng(lngCell)));
+                    if (ids == null) {
+                        continue;
+                    }
+
+                    for (Long id : ids) {
+                        GeoEntry entry = entries.get(id);
+                        double distance = distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+                        if (distance <= radiusMeters) {
+                            result.add(new Nearby(entry, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters).thenComparing(n -> n.entry().id()));
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (하버사인, m)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경을 감싸는 위도 / 경도 범위 목록 (인덱스 적재 전 DB 조회용)
+     * 위도는 -90 ~ 90 으로 자르고, 날짜 변경선(경도 ±180)을 넘는 경도 범위는 양쪽 두 범위로 나눈다.
+     * @return {최소 위도, 최대 위도, 최소 경도, 최대 경도} 목록 (1 ~ 2 개)
+     */
+    public static List<double[]> boundingBoxes(double latitude, double longitude, double radiusMeters) {
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        double lngSpan = longitudeSpan(latitude, radiusMeters);
+        double minLat = Math.max(-90, latitude - latSpan);
+        double maxLat = Math.min(90, latitude + latSpan);
+        double minLng = longitude - lngSpan;
+        double maxLng = longitude + lngSpan;
+
+        if (lngSpan >= 180) {
+            return List.of(new double[]{minLat, maxLat, -180, 180});
+        }
+        if (minLng < -180) {
+            return List.of(new double[]{minLat, maxLat, minLng + 360, 180},
+                    new double[]{minLat, maxLat, -180, maxLng});
+        }
+        if (maxLng > 180) {
+            return List.of(new double[]{minLat, maxLat, minLng, 180},
+                    new double[]{minLat, maxLat, -180, maxLng - 360});
+        }
+        return List.of(new double[]{minLat, maxLat, minLng, maxLng});
+    }
+
+    /*
+    * 반경 원이 걸치는 경도 폭 (도)
+    * 극점을 포함하면 모든 경도에 걸치고, 아니면 원의 접선이 닿는 위도 기준으로 계산한다 (중심 위도 기준보다 넓음).
+    * */
+    private static double longitudeSpan(double latitude, double radiusMeters) {
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        if (latitude + latSpan >= 90 || latitude - latSpan <= -90) {
+            return 180;
+        }
+        double ratio = Math.sin(radiusMeters / EARTH_RADIUS_METERS) / Math.cos(Math.toRadians(latitude));
+        return ratio >= 1 ? 180 : Math.toDegrees(Math.asin(ratio));
+    }
+
+    private void link(GeoEntry entry) {
+        entries.put(entry.id(), entry);
+        cells.computeIfAbsent(cellKey(entry), k -> new HashSet<>()).add(entry.id());
+    }
+
+    private void unlink(Long storeId) {
+        GeoEntry previous = entries.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+
+        long key = cellKey(previous);
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(storeId);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static long cellKey(GeoEntry entry) {
+        return key(cellOf(entry.latitude()), wrapLng(cellOf(entry.longitude())));
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    /*
+    * 날짜 변경선을 넘는 경도 격자를 -180 ~ 180 범위로 보정
+    * */
+    private static int wrapLng(int lngCell) {
+        return Math.floorMod(lngCell + LNG_CELLS / 2, LNG_CELLS) - LNG_CELLS / 2;
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /**
+     * 위치 조회 응답에 필요한 매장 정보
+     */
+    public record GeoEntry(Long id, String name, String address, Double latitude, Double longitude) {
+
+        boolean hasLocation() {
+            return latitude != null && longitude != null;
+        }
+    }
+
+    public record Nearby(GeoEntry entry, double distanceMeters) {
+    }
+}
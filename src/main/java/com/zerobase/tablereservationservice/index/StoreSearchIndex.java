@@ -0,0 +1,258 @@
+package com.zerobase.tablereservationservice.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 이름 검색 인덱스 (문자 n-gram 역색인)
+ * 이름을 소문자로 정규화한 뒤 1-gram / 2-gram 별로 매장 ID 목록을 유지한다.
+ * 검색어의 2-gram 목록을 교집합하여 후보를 좁히고, 후보만 실제 포함 여부를 확인하므로
+ * LIKE '%검색어%' 와 같은 결과를 매장 수와 무관하게 후보 수에 비례한 비용으로 조회한다.
+ *
+ * 결과는 일치(이름 전체) > 접두 일치 > 부분 일치 순, 같은 순위 내에서는 매장 ID 오름차순으로 정렬한다.
+ */
+@Component
+public class StoreSearchIndex {
+
+    public static final int TIER_EXACT = 0;
+    public static final int TIER_PREFIX = 1;
+    public static final int TIER_CONTAINS = 2;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::tier)
+            .thenComparing(hit -> hit.document().id());
+
+    private final Map<Long, StoreDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 적재 중 삭제된 매장 (적재 스냅샷으로 되살아나지 않도록 적재 완료 전까지 보관) */
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 적재 완료 표시 (이후 검색은 인덱스로만 처리)
+     */
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 등록 / 수정 반영
+     */
+    public void put(StoreDocument document) {
+        lock.writeLock().lock();
+        try {
+            StoreDocument previous = documents.put(document.id(), document);
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 적재용 (적재 중 먼저 반영된 등록 / 수정 / 삭제는 덮어쓰지 않음)
+     */
+    public void putIfAbsent(StoreDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (!removedWhileLoading.contains(document.id())
+                    && documents.putIfAbsent(document.id(), document) == null) {
+                link(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 삭제 반영
+     */
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            StoreDocument previous = documents.remove(storeId);
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (!ready) {
+                removedWhileLoading.add(storeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public StoreDocument get(Long storeId) {
+        lock.readLock().lock();
+        try {
+            return documents.get(storeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름에 검색어가 포함된 매장 중 커서 (afterTier, afterId) 다음 limit 건 (대소문자 무시, 순위 / ID 순)
+     * 전체 후보를 정렬하지 않고 크기 limit 의 힙으로 상위만 골라낸다.
+     * @param afterTier 이전 페이지 마지막 순위 (첫 페이지는 -1)
+     * @param afterId 이전 페이지 마지막 매장 ID
+     */
+    public List<Hit> search(String query, int afterTier, long afterId, int limit) {
+
+        String normalized = normalize(query);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(normalized)) {
+                StoreDocument document = documents.get(id);
+                int tier = tierOf(normalize(document.name()), normalized);
+
+                if (tier < 0 || tier < afterTier || (tier == afterTier && id <= afterId)) {
+                    continue;
+                }
+
+                top.offer(new Hit(tier, document));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+    * 검색어 n-gram 목록의 교집합 (가장 짧은 목록부터 비교)
+    * */
+    private Set<Long> candidates(String query) {
+
+        if (query.isEmpty()) {
+            return documents.keySet();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void link(StoreDocument document) {
+        for (String gram : indexGrams(normalize(document.name()))) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void unlink(StoreDocument document) {
+        for (String gram : indexGrams(normalize(document.name()))) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(document.id());
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /*
+    * 색인 n-gram : 모든 1-gram 과 2-gram
+    * */
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /*
+    * 검색 n-gram : 한 글자 검색어는 1-gram, 그 외는 2-gram
+    * */
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static int tierOf(String name, String query) {
+        if (name.equals(query)) {
+            return TIER_EXACT;
+        }
+        if (name.startsWith(query)) {
+            return TIER_PREFIX;
+        }
+        return name.contains(query) ? TIER_CONTAINS : -1;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색 결과 응답에 필요한 매장 정보
+     */
+    public record StoreDocument(Long id, String name, String address, String description) {
+    }
+
+    public record Hit(int tier, StoreDocument document) {
+    }
+}
@@ -0,0 +1,315 @@
+package com.zerobase.tablereservationservice.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매장 이름 자동완성 트라이
+ * 자식 노드는 정렬된 문자 배열 / 노드 배열로 보관하여 노드당 맵 객체를 두지 않고,
+ * 각 노드는 하위 매장 중 인기도(예약 수) 상위 TOP_K 개를 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 내려가 해당 노드의 목록을 그대로 반환하고,
+ * 등록 시에는 경로의 각 노드 목록에 끼워 넣기만 하고(경로 길이 x TOP_K),
+ * 삭제 / 인기도 감소 시에는 해당 매장이 목록에 있던 노드만 아래에서 위로 다시 계산한다.
+ */
+@Component
+public class StoreSuggestIndex {
+
+    public static final int TOP_K = 10;
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    /** 인기도 내림차순, 같으면 매장 ID 오름차순 */
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::popularity).reversed()
+            .thenComparing(Suggestion::storeId);
+
+    private final Node root = new Node();
+    private final Map<Long, Suggestion> suggestions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 적재 중 삭제된 매장 (적재 스냅샷으로 되살아나지 않도록 적재 완료 전까지 보관) */
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 등록 / 이름 변경 반영 (인기도는 유지)
+     */
+    public void put(Long storeId, String name) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = suggestions.get(storeId);
+            upsert(new Suggestion(storeId, name, previous == null ? 0 : previous.popularity()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 시 적재용 (적재 중 먼저 반영된 등록 / 수정 / 삭제는 덮어쓰지 않음)
+     */
+    public void putIfAbsent(Long storeId, String name, long popularity) {
+        lock.writeLock().lock();
+        try {
+            if (!removedWhileLoading.contains(storeId) && !suggestions.containsKey(storeId)) {
+                upsert(new Suggestion(storeId, name, popularity));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long storeId) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = suggestions.remove(storeId);
+            if (previous != null) {
+                detach(previous);
+            }
+            if (!ready) {
+                removedWhileLoading.add(storeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도 갱신 (변경된 매장의 경로만 다시 계산)
+     * @param popularityByStore 매장 ID 별 인기도 (없는 매장은 0)
+     * @return 인기도가 변경된 매장 수
+     */
+    public int updatePopularity(Map<Long, Long> popularityByStore) {
+        lock.writeLock().lock();
+        try {
+            List<Suggestion> changed = new ArrayList<>();
+            for (Suggestion suggestion : suggestions.values()) {
+                long popularity = popularityByStore.getOrDefault(suggestion.storeId(), 0L);
+                if (popularity != suggestion.popularity()) {
+                    changed.add(new Suggestion(suggestion.storeId(), suggestion.name(), popularity));
+                }
+            }
+            changed.forEach(this::upsert);
+            return changed.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 매장 중 인기도 상위 목록 (대소문자 무시)
+     * @param limit 최대 TOP_K
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+
+        String key = StoreSearchIndex.normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+
+            if (node == null) {
+                return List.of();
+            }
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsert(Suggestion suggestion) {
+        Suggestion previous = suggestions.put(suggestion.storeId(), suggestion);
+        if (previous != null) {
+            detach(previous);
+        }
+
+        List<Node> path = path(suggestion.name(), true);
+        Node leaf = path.get(path.size() - 1);
+        leaf.terminals = append(leaf.terminals, suggestion);
+
+        for (Node node : path) {
+            node.offer(suggestion);
+        }
+    }
+
+    private void detach(Suggestion suggestion) {
+        List<Node> path = path(suggestion.name(), false);
+        if (path == null) {
+            return;
+        }
+
+        Node leaf = path.get(path.size() - 1);
+        leaf.terminals = Arrays.stream(leaf.terminals)
+                .filter(s -> !s.storeId().equals(suggestion.storeId()))
+                .toArray(Suggestion[]::new);
+        recompute(path, suggestion.storeId());
+
+        // 비어 있는 노드는 부모에서 제거하여 메모리 회수
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (node.terminals.length > 0 || node.children.length > 0) {
+                break;
+            }
+            path.get(i - 1).removeChild(node);
+        }
+    }
+
+    /*
+    * 루트부터 이름 끝 노드까지의 경로 (create 가 false 이면 경로가 없을 때 null)
+    * */
+    private List<Node> path(String name, boolean create) {
+        String key = StoreSearchIndex.normalize(name);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node next = node.child(key.charAt(i));
+            if (next == null) {
+                if (!create) {
+                    return null;
+                }
+                next = node.addChild(key.charAt(i));
+            }
+            node = next;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /*
+    * 경로의 상위 목록을 아래에서 위로 다시 계산 (자식 노드의 상위 목록과 자신의 종료 매장을 병합)
+    * 부모 목록의 매장은 모두 자식 목록에서 올라온 것이므로, 제거된 매장이 목록에 없는 노드에서 멈춘다.
+    * */
+    private static void recompute(List<Node> path, Long removedStoreId) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+
+            if (!node.contains(removedStoreId)) {
+                return;
+            }
+
+            List<Suggestion> merged = new ArrayList<>(Arrays.asList(node.terminals));
+            for (Node child : node.children) {
+                merged.addAll(Arrays.asList(child.top));
+            }
+            merged.sort(RANKING);
+
+            node.top = merged.isEmpty() ? NO_SUGGESTIONS
+                    : merged.subList(0, Math.min(TOP_K, merged.size())).toArray(Suggestion[]::new);
+        }
+    }
+
+    private static Suggestion[] append(Suggestion[] array, Suggestion suggestion) {
+        Suggestion[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = suggestion;
+        return result;
+    }
+
+    /*
+    * 트라이 노드 (자식은 문자 오름차순 배열, 이진 탐색)
+    * */
+    private static class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] terminals = NO_SUGGESTIONS;
+        private Suggestion[] top = NO_SUGGESTIONS;
+
+        boolean contains(Long storeId) {
+            for (Suggestion suggestion : top) {
+                if (suggestion.storeId().equals(storeId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /*
+        * 상위 목록에 새 매장 끼워 넣기 (목록이 가득 차 있고 마지막보다 낮으면 무시)
+        * */
+        void offer(Suggestion suggestion) {
+            if (top.length == TOP_K && RANKING.compare(suggestion, top[TOP_K - 1]) >= 0) {
+                return;
+            }
+
+            int insertAt = -Arrays.binarySearch(top, suggestion, RANKING) - 1;
+            int length = Math.min(top.length + 1, TOP_K);
+            Suggestion[] newTop = new Suggestion[length];
+            System.arraycopy(top, 0, newTop, 0, insertAt);
+            newTop[insertAt] = suggestion;
+            System.arraycopy(top, insertAt, newTop, insertAt + 1, length - insertAt - 1);
+            top = newTop;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char c) {
+            int insertAt = -Arrays.binarySearch(keys, c) - 1;
+            Node child = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    char[] newKeys = new char[keys.length - 1];
+                    Node[] newChildren = new Node[children.length - 1];
+                    System.arraycopy(keys, 0, newKeys, 0, i);
+                    System.arraycopy(children, 0, newChildren, 0, i);
+                    System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+                    System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+                    keys = newKeys;
+                    children = newChildren;
+                    return;
+                }
+            }
+        }
+    }
+
+    public record Suggestion(Long storeId, String name, long popularity) {
+    }
+}
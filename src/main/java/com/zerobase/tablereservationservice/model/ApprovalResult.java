@@ -0,0 +1,20 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 승인 / 거절 처리 시 예약 건별 처리 결과
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApprovalResult {
+
+    Long reservationId;
+    boolean success;
+    String message;
+}
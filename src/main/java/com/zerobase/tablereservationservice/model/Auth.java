@@ -1,6 +1,7 @@
 package com.zerobase.tablereservationservice.model;
 
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.List;
@@ -33,4 +34,23 @@ public class Auth {
                     .build();
         }
     }
+
+    /*
+    * 토큰 재발급 / 로그아웃
+    * */
+    @Data
+    public static class Refresh{
+        private String refreshToken;
+    }
+
+    /*
+    * 발급 토큰 (expiresIn : 액세스 토큰 유효 시간, 초)
+    * */
+    @Data
+    @AllArgsConstructor
+    public static class Token{
+        private String accessToken;
+        private String refreshToken;
+        private long expiresIn;
+    }
 }
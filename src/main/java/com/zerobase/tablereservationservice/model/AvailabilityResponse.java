@@ -0,0 +1,18 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityResponse {
+
+    Long storeId;
+    List<String> availableTimes;
+}
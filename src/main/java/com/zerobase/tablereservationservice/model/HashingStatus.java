@@ -0,0 +1,27 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 비밀번호 해시 작업 상태 (지연 시간은 대기열 대기 + 해시 계산, ms)
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class HashingStatus {
+
+    int threads;
+    int activeThreads;
+    int queueDepth;
+    int queueCapacity;
+    int bcryptStrength;
+    long completed;
+    long rejected;
+    long rehashed;
+    double averageLatencyMillis;
+    double maxLatencyMillis;
+}
@@ -0,0 +1,18 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class HoldResponse {
+
+    String holdId;
+    Long storeId;
+    String reservationTime;
+    String expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 일괄 예약 등록 시 요청 건별 처리 결과
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationBatchResult {
+
+    int index;
+    Long storeId;
+    String reservationTime;
+    boolean success;
+    String message;
+}
@@ -0,0 +1,21 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/*
+* 예약 이력 페이지 (nextCursor 가 null 이면 마지막 페이지)
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationHistoryResponse {
+
+    List<ReservationResponse> reservations;
+    Long nextCursor;
+}
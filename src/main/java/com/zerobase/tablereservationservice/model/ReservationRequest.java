@@ -18,9 +18,30 @@ public class ReservationRequest {
 
     Long storeId;
     String reservationTime;
+    Integer partySize;
 
     public LocalDateTime getReservationTime() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         return LocalDateTime.parse(reservationTime, formatter);
     }
+
+    /*
+    * 예약 인원 (미입력 시 1명, 1 미만은 오류)
+    * */
+    public int getPartySize() {
+        if(partySize == null){
+            return 1;
+        }
+        if(partySize < 1){
+            throw new RuntimeException("예약 인원은 1명 이상이어야 합니다.");
+        }
+        return partySize;
+    }
+
+    /*
+    * 요청 원문 예약 시간 (yyyy-MM-dd HH:mm)
+    * */
+    public String getReservationTimeText() {
+        return reservationTime;
+    }
 }
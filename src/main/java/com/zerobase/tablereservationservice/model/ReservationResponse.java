@@ -0,0 +1,21 @@
+package com.zerobase.tablereservationservice.model;
+
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationResponse {
+
+    Long id;
+    Long storeId;
+    String reservationTime;
+    ReservationStatus status;
+    ArrivalStatus arrivalStatus;
+}
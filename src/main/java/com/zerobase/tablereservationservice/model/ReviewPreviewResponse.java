@@ -0,0 +1,21 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 리뷰 목록 항목 (truncated 가 true 이면 전체 본문은 /review/detail/{id} 로 조회)
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewPreviewResponse {
+    private Long id;
+    private String author;
+    private Integer rating;
+    private String preview;
+    private boolean truncated;
+}
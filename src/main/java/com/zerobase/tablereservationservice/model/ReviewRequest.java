@@ -13,4 +13,5 @@ public class ReviewRequest {
 
     Long storeId;
     String review;
+    Integer rating;
 }
@@ -0,0 +1,18 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewResponse {
+    private Long id;
+    private Long storeId;
+    private String author;
+    private Integer rating;
+    private String review;
+}
@@ -14,4 +14,5 @@ public class ReviewUpdateRequest {
     Long id;
     Long storeId;
     String review;
+    Integer rating;
 }
@@ -0,0 +1,25 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/*
+* 매장 상세 (ratingHistogram 은 1점 ~ 5점 리뷰 수, 별점 리뷰가 없으면 averageRating 은 null)
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreDetailResponse {
+    private Long id;
+    private String name;
+    private String address;
+    private String description;
+    private long reviewCount;
+    private Double averageRating;
+    private List<Long> ratingHistogram;
+}
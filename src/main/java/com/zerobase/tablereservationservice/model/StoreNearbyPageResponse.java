@@ -0,0 +1,22 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/*
+* 주변 매장 페이지 (nextPage 가 null 이면 마지막 페이지)
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreNearbyPageResponse {
+
+    List<StoreNearbyResponse> stores;
+    int totalCount;
+    Integer nextPage;
+}
@@ -0,0 +1,27 @@
+package com.zerobase.tablereservationservice.model;
+
+import com.zerobase.tablereservationservice.type.PurgeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 매장 삭제 정리 작업 진행 상태
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StorePurgeStatus {
+
+    Long storeId;
+    PurgeStatus status;
+    long reservationsDeleted;
+    long archivedReservationsDeleted;
+    long reviewsDeleted;
+    String requestedAt;
+    String startedAt;
+    String finishedAt;
+    String lastError;
+}
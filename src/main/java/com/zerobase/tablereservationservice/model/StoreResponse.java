@@ -15,4 +15,6 @@ public class StoreResponse {
     private String name;
     private String address;
     private String description;
+    private long reviewCount;
+    private Double averageRating;
 }
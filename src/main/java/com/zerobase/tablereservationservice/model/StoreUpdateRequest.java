@@ -15,4 +15,6 @@ public class StoreUpdateRequest {
     private String name;
     private String address;
     private String description;
+    private Double latitude;
+    private Double longitude;
 }
@@ -0,0 +1,24 @@
+package com.zerobase.tablereservationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+* 미방문 처리 작업 진행 상태
+* */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SweeperStatus {
+
+    boolean running;
+    long totalProcessed;
+    long lastRunProcessed;
+    int lastRunBatches;
+    String lastRunStartedAt;
+    String lastRunFinishedAt;
+    long lagSeconds;
+}
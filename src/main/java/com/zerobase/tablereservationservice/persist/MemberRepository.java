@@ -3,7 +3,11 @@ package com.zerobase.tablereservationservice.persist;
 
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,4 +18,14 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 
     boolean existsByUsername(String username);
 
+    /*
+    * 로그인 시 재해시 저장 (그 사이 비밀번호가 바뀌었으면 반영하지 않음)
+    * */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+
 }
@@ -0,0 +1,51 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.ReservationArchiveEntity;
+import com.zerobase.tablereservationservice.persist.projection.ReservationHistoryView;
+import com.zerobase.tablereservationservice.persist.projection.ReviewEligibilityView;
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchiveEntity, Long> {
+
+    /*
+    * 운영 테이블의 예약을 보관 테이블로 복사 (DB 내부에서 INSERT ... SELECT)
+    * */
+    @Modifying
+    @Query(value = "INSERT INTO reservation_archive_entity " +
+            "(id, store_id, member_id, table_id, party_size, reservation_time, status, arrival_status, arrival_time, archived_at) " +
+            "SELECT r.id, r.store_id, r.member_id, r.table_id, r.party_size, r.reservation_time, r.status, r.arrival_status, " +
+            "r.arrival_time, NOW() " +
+            "FROM reservation_entity r WHERE r.id IN (:ids)", nativeQuery = true)
+    int copyFromReservations(@Param("ids") Collection<Long> ids);
+
+    /*
+    * 삭제된 매장 보관 예약 청크 삭제 (MariaDB DELETE ... LIMIT)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM reservation_archive_entity WHERE store_id = :storeId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+
+    List<ReservationHistoryView> findByMemberIdAndIdLessThanOrderByIdDesc(Long memberId, Long id, Pageable pageable);
+
+    boolean existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(Long storeId, Long memberId,
+                                                              ArrivalStatus arrivalStatus, ReservationStatus status);
+
+    /*
+    * 리뷰 작성 자격 인덱스 적재용
+    * */
+    @Query("SELECT DISTINCT a.memberId AS memberId, a.storeId AS storeId FROM ReservationArchiveEntity a " +
+            "WHERE a.arrivalStatus = :arrivalStatus AND a.status = :status")
+    List<ReviewEligibilityView> findEligiblePairs(@Param("arrivalStatus") ArrivalStatus arrivalStatus,
+                                                  @Param("status") ReservationStatus status);
+}
@@ -1,37 +1,196 @@
 package com.zerobase.tablereservationservice.persist;
 
 import com.zerobase.tablereservationservice.persist.entity.ReservationEntity;
+import com.zerobase.tablereservationservice.persist.projection.OverdueReservationView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationApprovalView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationHistoryView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationSlotView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationStatusView;
+import com.zerobase.tablereservationservice.persist.projection.ReviewEligibilityView;
+import com.zerobase.tablereservationservice.persist.projection.StorePopularityView;
 import com.zerobase.tablereservationservice.type.ArrivalStatus;
 import com.zerobase.tablereservationservice.type.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<ReservationEntity,Long> {
 
-    void deleteByStoreId(Long storeId);
+    String CLOSED_STATUSES = "com.zerobase.tablereservationservice.type.ReservationStatus.CANCELLED, " +
+            "com.zerobase.tablereservationservice.type.ReservationStatus.REJECTED";
 
     /*
-    예약 후 1시간은 예약 불가
+    * 삭제된 매장 예약 청크 삭제 (MariaDB DELETE ... LIMIT)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM reservation_entity WHERE store_id = :storeId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+
+    /*
+    * 예약 점유 인덱스 적재용 (기준 시간 이후 예약의 매장 ID, 테이블 ID, 예약 시간)
+    * 취소 / 거절된 예약은 시간을 점유하지 않음
+    * */
+    @Query("SELECT r.store.id AS storeId, t.id AS tableId, r.reservationTime AS reservationTime " +
+            "FROM ReservationEntity r LEFT JOIN r.table t " +
+            "WHERE r.reservationTime >= :from " +
+            "AND r.status NOT IN (" + CLOSED_STATUSES + ")")
+    List<ReservationSlotView> findSlotsFrom(@Param("from") LocalDateTime from);
+
+    /*
+    * 점유 인덱스 미적재 시 매장 단위 부분 적재용 (기간 내 매장 예약)
+    * */
+    @Query("SELECT r.store.id AS storeId, t.id AS tableId, r.reservationTime AS reservationTime " +
+            "FROM ReservationEntity r LEFT JOIN r.table t " +
+            "WHERE r.store.id = :storeId " +
+            "AND r.reservationTime BETWEEN :from AND :to " +
+            "AND r.status NOT IN (" + CLOSED_STATUSES + ")")
+    List<ReservationSlotView> findSlots(@Param("storeId") Long storeId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    /*
+    * 테이블에 남아 있는 이후 예약 여부
     * */
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN TRUE ELSE FALSE END " +
             "FROM ReservationEntity r " +
-            "WHERE r.store.id = :storeId " +
-            "AND ((:startTime BETWEEN r.reservationTime AND r.reservationTime + 1 HOUR) " +
-            "OR (:endTime BETWEEN r.reservationTime AND r.reservationTime + 1 HOUR) " +
-            "OR (r.reservationTime BETWEEN :startTime AND :endTime))")
-    boolean existsByStoreAndReservationTime(@Param("storeId") Long storeId,
-                                            @Param("startTime") LocalDateTime startTime,
-                                            @Param("endTime") LocalDateTime endTime);
+            "WHERE r.table.id = :tableId " +
+            "AND r.reservationTime >= :from " +
+            "AND r.status NOT IN (" + CLOSED_STATUSES + ")")
+    boolean existsUpcomingByTableId(@Param("tableId") Long tableId, @Param("from") LocalDateTime from);
+
+    /*
+    * 테이블 삭제 전 지난 예약의 테이블 연결 해제
+    * */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.table = null WHERE r.table.id = :tableId")
+    int detachTable(@Param("tableId") Long tableId);
+
+    /*
+    * 승인 / 거절 대상 예약과 매장 매니저 조회
+    * */
+    @Query("SELECT r.id AS id, s.id AS storeId, s.manager.id AS managerId, t.id AS tableId, " +
+            "r.member.id AS memberId, r.reservationTime AS reservationTime, r.status AS status, " +
+            "r.arrivalStatus AS arrivalStatus " +
+            "FROM ReservationEntity r JOIN r.store s LEFT JOIN r.table t " +
+            "WHERE r.id IN :ids")
+    List<ReservationApprovalView> findApprovalViews(@Param("ids") Collection<Long> ids);
+
+    /*
+    * 승인 / 거절 대상 예약 행 잠금 (id 순서로 잠가 교착 방지, 매장 / 테이블 행은 잠그지 않음)
+    * 잠금 읽기는 항상 최신 커밋 값을 읽으므로 취소 / 거절 여부는 이 결과로 판단
+    * */
+    @Query(value = "SELECT id AS id, status AS status, arrival_status AS arrivalStatus " +
+            "FROM reservation_entity WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<ReservationStatusView> lockStatuses(@Param("ids") Collection<Long> ids);
+
+    /*
+    * 취소용 (동시 취소 / 거절 시 점유를 두 번 해제하지 않도록 행 잠금)
+    * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservationEntity r WHERE r.id = :id")
+    Optional<ReservationEntity> findForUpdate(@Param("id") Long id);
+
+    /*
+    * 예약 상태 일괄 변경 (이미 취소 / 거절된 예약은 변경하지 않음)
+    * */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.status = :status " +
+            "WHERE r.id IN :ids AND r.status NOT IN (" + CLOSED_STATUSES + ")")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    /*
+    * 미방문 처리 대상 조회 (예약 시간이 지난 도착 대기 예약, (예약 시간, id) keyset)
+    * (arrivalStatus, reservationTime) 인덱스 순서(같은 시간은 id 순)대로 이전 배치의 마지막 위치부터 이어서 읽는다.
+    * */
+    @Query("SELECT r.id AS id, r.reservationTime AS reservationTime FROM ReservationEntity r " +
+            "WHERE r.arrivalStatus = :arrivalStatus " +
+            "AND r.reservationTime >= :lastTime AND r.reservationTime < :cutoff " +
+            "AND (r.reservationTime > :lastTime OR r.id > :lastId) " +
+            "AND r.status NOT IN (" + CLOSED_STATUSES + ") " +
+            "ORDER BY r.reservationTime, r.id")
+    List<OverdueReservationView> findOverdue(@Param("arrivalStatus") ArrivalStatus arrivalStatus,
+                                             @Param("cutoff") LocalDateTime cutoff,
+                                             @Param("lastTime") LocalDateTime lastTime,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
+
+    /*
+    * 미방문 처리 대상 중 가장 오래된 예약 시간
+    * */
+    @Query("SELECT MIN(r.reservationTime) FROM ReservationEntity r " +
+            "WHERE r.arrivalStatus = :arrivalStatus " +
+            "AND r.reservationTime < :cutoff " +
+            "AND r.status NOT IN (" + CLOSED_STATUSES + ")")
+    LocalDateTime findOldestReservationTime(@Param("arrivalStatus") ArrivalStatus arrivalStatus,
+                                            @Param("cutoff") LocalDateTime cutoff);
+
+    /*
+    * 도착 상태 일괄 변경
+    * */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.arrivalStatus = :to " +
+            "WHERE r.id IN :ids AND r.arrivalStatus = :from")
+    int updateArrivalStatus(@Param("ids") Collection<Long> ids,
+                            @Param("from") ArrivalStatus from,
+                            @Param("to") ArrivalStatus to);
+
+    /*
+    * 보관 대상 조회 (기준 시간 이전 예약, id keyset)
+    * */
+    @Query("SELECT r.id FROM ReservationEntity r " +
+            "WHERE r.reservationTime < :cutoff " +
+            "AND r.id > :lastId " +
+            "ORDER BY r.id")
+    List<Long> findIdsBefore(@Param("cutoff") LocalDateTime cutoff,
+                             @Param("lastId") Long lastId,
+                             Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ReservationEntity r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /*
+    * 매장별 예약 수 (취소 / 거절 제외, 자동완성 인기도)
+    * */
+    @Query("SELECT r.store.id AS storeId, COUNT(r) AS reservationCount " +
+            "FROM ReservationEntity r " +
+            "WHERE r.status NOT IN (" + CLOSED_STATUSES + ") " +
+            "GROUP BY r.store.id")
+    List<StorePopularityView> countByStore();
+
+    /*
+    * 회원 예약 이력 조회 (id 내림차순 keyset)
+    * */
+    @Query("SELECT r.id AS id, r.store.id AS storeId, r.reservationTime AS reservationTime, " +
+            "r.status AS status, r.arrivalStatus AS arrivalStatus " +
+            "FROM ReservationEntity r " +
+            "WHERE r.member.id = :memberId AND r.id < :cursor " +
+            "ORDER BY r.id DESC")
+    List<ReservationHistoryView> findHistory(@Param("memberId") Long memberId,
+                                             @Param("cursor") Long cursor,
+                                             Pageable pageable);
 
     boolean existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(Long storeId, Long memberId ,
                                                               ArrivalStatus arrivalStatus, ReservationStatus status);
 
-    boolean existsByMemberId(Long memberId);
+    /*
+    * 리뷰 작성 자격 인덱스 적재용
+    * */
+    @Query("SELECT DISTINCT r.member.id AS memberId, r.store.id AS storeId FROM ReservationEntity r " +
+            "WHERE r.arrivalStatus = :arrivalStatus AND r.status = :status")
+    List<ReviewEligibilityView> findEligiblePairs(@Param("arrivalStatus") ArrivalStatus arrivalStatus,
+                                                  @Param("status") ReservationStatus status);
 
 
     boolean existsByIdAndStatus(Long id, ReservationStatus status);
@@ -2,11 +2,84 @@ package com.zerobase.tablereservationservice.persist;
 
 
 import com.zerobase.tablereservationservice.persist.entity.ReviewEntity;
+import com.zerobase.tablereservationservice.persist.projection.ReviewDetailView;
+import com.zerobase.tablereservationservice.persist.projection.ReviewOwnerView;
+import com.zerobase.tablereservationservice.persist.projection.ReviewPreviewView;
+import com.zerobase.tablereservationservice.persist.projection.StoreRatingView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
 
-    boolean existsByMemberId(Long memberId);
+    /*
+    * 별점 변경 / 삭제용 (동시 수정 시 이전 별점을 두 번 빼지 않도록 행 잠금)
+    * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReviewEntity r WHERE r.id = :id")
+    Optional<ReviewEntity> findForUpdate(@Param("id") Long id);
+
+    String RATING_AGGREGATE = "SELECT r.store.id AS storeId, COUNT(r) AS reviewCount, " +
+            "COALESCE(SUM(r.rating), 0) AS ratingSum, " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END) AS star1, " +
+            "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END) AS star2, " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END) AS star3, " +
+            "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END) AS star4, " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) AS star5 " +
+            "FROM ReviewEntity r ";
+
+    /*
+    * 매장별 리뷰 집계 재계산 (집계 보정 대상 탐색)
+    * */
+    @Query(RATING_AGGREGATE + "GROUP BY r.store.id")
+    List<StoreRatingView> aggregateRatings();
+
+    /*
+    * 매장 하나의 리뷰 집계 재계산 (리뷰가 없으면 빈 값)
+    * */
+    @Query(RATING_AGGREGATE + "WHERE r.store.id = :storeId GROUP BY r.store.id")
+    Optional<StoreRatingView> aggregateRating(@Param("storeId") Long storeId);
+
+    /*
+    * 삭제된 매장 리뷰 청크 삭제 (MariaDB DELETE ... LIMIT)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM review_entity WHERE store_id = :storeId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByStoreId(@Param("storeId") Long storeId, @Param("limit") int limit);
+
+    /*
+    * 매장 리뷰 목록 (최신순 id keyset, 본문은 앞 :previewLength 자만 읽음)
+    * */
+    @Query("SELECT r.id AS id, m.username AS author, r.rating AS rating, " +
+            "SUBSTRING(r.review, 1, :previewLength) AS preview, LENGTH(r.review) AS length " +
+            "FROM ReviewEntity r LEFT JOIN r.member m " +
+            "WHERE r.store.id = :storeId AND r.id < :before " +
+            "ORDER BY r.id DESC")
+    List<ReviewPreviewView> findPreviews(@Param("storeId") Long storeId,
+                                         @Param("before") Long before,
+                                         @Param("previewLength") int previewLength,
+                                         Pageable pageable);
+
+    /*
+    * 리뷰 본문 조회
+    * */
+    @Query("SELECT r.id AS id, r.store.id AS storeId, m.username AS author, r.rating AS rating, r.review AS review " +
+            "FROM ReviewEntity r LEFT JOIN r.member m " +
+            "WHERE r.id = :id")
+    Optional<ReviewDetailView> findDetailById(@Param("id") Long id);
+
+    /*
+    * 리뷰 권한 확인용 (작성자, 매장)
+    * */
+    @Query("SELECT r.id AS id, r.member.id AS authorId, r.store.id AS storeId FROM ReviewEntity r WHERE r.id = :id")
+    Optional<ReviewOwnerView> findOwnerById(@Param("id") Long id);
 }
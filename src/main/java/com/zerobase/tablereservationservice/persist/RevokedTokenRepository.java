@@ -0,0 +1,32 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    List<RevokedTokenEntity> findByExpiresAtAfter(LocalDateTime now);
+
+    /*
+    * 폐기 기록 (이미 폐기된 토큰이면 0, 리프레시 토큰 재사용 판별)
+    * */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token_entity (token_id, expires_at) VALUES (:tokenId, :expiresAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,99 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.SlotClaimEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간 점유 기록
+ * 점유는 "범위 안에 유효한 점유가 없을 때만 INSERT" 한 문장으로 하며, InnoDB(REPEATABLE READ)는 조건 확인 중 읽은
+ * 인덱스 범위에 next-key 잠금을 걸기 때문에 겹치는 점유를 동시에 시도한 트랜잭션 중 하나만 기록된다.
+ * 같은 시작 시간은 유니크 키로도 막으며, 잠금 대기 / 교착은 호출한 쪽에서 재시도 안내로 처리한다.
+ * 점유 / 해제는 모두 호출한 트랜잭션 안에서 실행되어야 한다.
+ */
+@Repository
+public interface SlotClaimRepository extends JpaRepository<SlotClaimEntity, Long> {
+
+    /*
+    * 테이블 레인 점유 (같은 테이블 또는 매장 전체 레인에 겹치는 유효한 점유가 있으면 0)
+    * */
+    @Modifying
+    @Query(value = "INSERT INTO slot_claim_entity (store_id, lane_id, reservation_time, hold_id, expires_at) " +
+            "SELECT :storeId, :laneId, :time, :holdId, :expiresAt FROM DUAL WHERE NOT EXISTS (" +
+            "SELECT 1 FROM slot_claim_entity c WHERE c.store_id = :storeId AND c.lane_id IN (:laneId, 0) " +
+            "AND c.reservation_time BETWEEN :from AND :to AND (c.expires_at IS NULL OR c.expires_at > :now))",
+            nativeQuery = true)
+    int claimLane(@Param("storeId") Long storeId, @Param("laneId") Long laneId, @Param("time") LocalDateTime time,
+                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                  @Param("holdId") String holdId, @Param("expiresAt") LocalDateTime expiresAt,
+                  @Param("now") LocalDateTime now);
+
+    /*
+    * 매장 전체 레인 점유 (매장의 어느 레인이든 겹치는 유효한 점유가 있으면 0)
+    * */
+    @Modifying
+    @Query(value = "INSERT INTO slot_claim_entity (store_id, lane_id, reservation_time, hold_id, expires_at) " +
+            "SELECT :storeId, 0, :time, :holdId, :expiresAt FROM DUAL WHERE NOT EXISTS (" +
+            "SELECT 1 FROM slot_claim_entity c WHERE c.store_id = :storeId " +
+            "AND c.reservation_time BETWEEN :from AND :to AND (c.expires_at IS NULL OR c.expires_at > :now))",
+            nativeQuery = true)
+    int claimStore(@Param("storeId") Long storeId, @Param("time") LocalDateTime time,
+                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                   @Param("holdId") String holdId, @Param("expiresAt") LocalDateTime expiresAt,
+                   @Param("now") LocalDateTime now);
+
+    /*
+    * 같은 시작 시간의 만료된 임시 점유 정리 (유니크 키 충돌 방지)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM slot_claim_entity WHERE store_id = :storeId AND lane_id = :laneId " +
+            "AND reservation_time = :time AND expires_at <= :now", nativeQuery = true)
+    int deleteExpiredAt(@Param("storeId") Long storeId, @Param("laneId") Long laneId,
+                        @Param("time") LocalDateTime time, @Param("now") LocalDateTime now);
+
+    /*
+    * 확정된 예약의 점유 해제 (취소 / 거절)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM slot_claim_entity WHERE store_id = :storeId AND lane_id = :laneId " +
+            "AND reservation_time = :time AND expires_at IS NULL", nativeQuery = true)
+    int deleteClaim(@Param("storeId") Long storeId, @Param("laneId") Long laneId,
+                    @Param("time") LocalDateTime time);
+
+    /*
+    * 임시 점유를 예약 점유로 확정 (이미 만료되었으면 0)
+    * */
+    @Modifying
+    @Query(value = "UPDATE slot_claim_entity SET hold_id = NULL, expires_at = NULL " +
+            "WHERE hold_id = :holdId AND expires_at > :now", nativeQuery = true)
+    int confirmHold(@Param("holdId") String holdId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM slot_claim_entity WHERE hold_id = :holdId", nativeQuery = true)
+    int deleteHold(@Param("holdId") String holdId);
+
+    /*
+    * 지난 예약 시간과 만료된 임시 점유 정리
+    * */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SlotClaimEntity c WHERE c.reservationTime < :before OR c.expiresAt <= :now")
+    int deleteStale(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    /*
+    * 기준 시간 이후의 유효한 예약을 점유 기록에 반영 (이미 있는 행은 건너뜀)
+    * 점유 기록 도입 전 예약이나 DB 복구 후에도 점유 기록이 예약과 어긋나지 않도록 시작 시 실행
+    * */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO slot_claim_entity (store_id, lane_id, reservation_time) " +
+            "SELECT r.store_id, COALESCE(r.table_id, 0), r.reservation_time FROM reservation_entity r " +
+            "WHERE r.reservation_time >= :from AND r.status NOT IN ('CANCELLED', 'REJECTED')", nativeQuery = true)
+    int backfillFrom(@Param("from") LocalDateTime from);
+}
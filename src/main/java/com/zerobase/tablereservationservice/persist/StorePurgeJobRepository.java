@@ -0,0 +1,30 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.StorePurgeJobEntity;
+import com.zerobase.tablereservationservice.type.PurgeStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StorePurgeJobRepository extends JpaRepository<StorePurgeJobEntity, Long> {
+
+    Optional<StorePurgeJobEntity> findByStoreId(Long storeId);
+
+    List<StorePurgeJobEntity> findByStatusNotOrderByIdAsc(PurgeStatus status);
+
+    /*
+    * 청크 삭제 건수 누적 (청크 삭제와 같은 트랜잭션에서 기록)
+    * */
+    @Modifying
+    @Query("UPDATE StorePurgeJobEntity j SET j.reservationsDeleted = j.reservationsDeleted + :reservations, " +
+            "j.archivedReservationsDeleted = j.archivedReservationsDeleted + :archivedReservations, " +
+            "j.reviewsDeleted = j.reviewsDeleted + :reviews WHERE j.id = :id")
+    void addProgress(@Param("id") Long id, @Param("reservations") long reservations,
+                     @Param("archivedReservations") long archivedReservations, @Param("reviews") long reviews);
+}
@@ -0,0 +1,44 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.StoreRatingEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoreRatingRepository extends JpaRepository<StoreRatingEntity, Long> {
+
+    /*
+    * 리뷰 집계 증감 (행이 없으면 생성, MariaDB INSERT ... ON DUPLICATE KEY UPDATE)
+    * 같은 행에 대한 동시 증감은 DB 행 잠금으로 직렬화되므로 읽고 쓰는 사이에 유실되지 않는다.
+    * */
+    @Modifying
+    @Query(value = "INSERT INTO store_rating_entity " +
+            "(store_id, review_count, rating_sum, star1, star2, star3, star4, star5) " +
+            "VALUES (:storeId, :count, :sum, :star1, :star2, :star3, :star4, :star5) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "star1 = star1 + VALUES(star1), star2 = star2 + VALUES(star2), star3 = star3 + VALUES(star3), " +
+            "star4 = star4 + VALUES(star4), star5 = star5 + VALUES(star5)", nativeQuery = true)
+    void applyDelta(@Param("storeId") Long storeId,
+                    @Param("count") long count,
+                    @Param("sum") long sum,
+                    @Param("star1") long star1,
+                    @Param("star2") long star2,
+                    @Param("star3") long star3,
+                    @Param("star4") long star4,
+                    @Param("star5") long star5);
+
+    /*
+    * 집계 보정용 (보정하는 동안 리뷰 증감 대기)
+    * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StoreRatingEntity r WHERE r.storeId = :storeId")
+    Optional<StoreRatingEntity> findForUpdate(@Param("storeId") Long storeId);
+}
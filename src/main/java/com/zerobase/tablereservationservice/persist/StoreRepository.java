@@ -1,17 +1,103 @@
 package com.zerobase.tablereservationservice.persist;
 
 import com.zerobase.tablereservationservice.persist.entity.StoreEntity;
+import com.zerobase.tablereservationservice.persist.projection.StoreRatedView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSearchHitView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSearchView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSnapshotView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
 public interface StoreRepository extends JpaRepository<StoreEntity, Long> {
 
-    List<StoreEntity> findByNameContainingIgnoreCase(String storeName);
+    /*
+    * 이름 일치 순위 (0 : 일치, 1 : 접두 일치, 2 : 부분 일치), :name 은 소문자 / LIKE 이스케이프 된 값
+    * */
+    String NAME_TIER = "CASE WHEN LOWER(s.name) = :exact THEN 0 " +
+            "WHEN LOWER(s.name) LIKE CONCAT(:name, '%') ESCAPE '!' THEN 1 ELSE 2 END";
 
-    boolean existsByManagerId(Long memberId);
+    /*
+    * 리뷰 집계 컬럼 (StoreRatingEntity rt 와 LEFT JOIN)
+    * */
+    String RATING_COLUMNS = "COALESCE(rt.reviewCount, 0) AS reviewCount, COALESCE(rt.ratingSum, 0) AS ratingSum, " +
+            "COALESCE(rt.star1 + rt.star2 + rt.star3 + rt.star4 + rt.star5, 0) AS ratingCount ";
+
+    /*
+    * 검색 인덱스 적재 전 매장 검색 (순위, ID 순 keyset)
+    * */
+    @Query("SELECT s.id AS id, s.name AS name, s.address AS address, s.description AS description, " +
+            "s.latitude AS latitude, s.longitude AS longitude, " + NAME_TIER + " AS tier, " + RATING_COLUMNS +
+            "FROM StoreEntity s LEFT JOIN StoreRatingEntity rt ON rt.storeId = s.id " +
+            "WHERE LOWER(s.name) LIKE CONCAT('%', :name, '%') ESCAPE '!' " +
+            "AND (" + NAME_TIER + " > :afterTier OR (" + NAME_TIER + " = :afterTier AND s.id > :afterId)) " +
+            "ORDER BY " + NAME_TIER + ", s.id")
+    List<StoreSearchHitView> searchByName(@Param("exact") String exact,
+                                          @Param("name") String name,
+                                          @Param("afterTier") int afterTier,
+                                          @Param("afterId") long afterId,
+                                          Pageable pageable);
+
+    /*
+    * 매장 검색 결과 스트리밍 (DB 커서에서 fetch size 단위로 읽음, 트랜잭션 안에서 소비해야 함)
+    * */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT s.id AS id, s.name AS name, s.address AS address, s.description AS description, " +
+            "s.latitude AS latitude, s.longitude AS longitude, " + RATING_COLUMNS +
+            "FROM StoreEntity s LEFT JOIN StoreRatingEntity rt ON rt.storeId = s.id " +
+            "WHERE LOWER(s.name) LIKE CONCAT('%', :name, '%') ESCAPE '!' " +
+            "ORDER BY s.id")
+    Stream<StoreRatedView> streamByName(@Param("name") String name);
+
+    /*
+    * 정리 작업 완료 후 삭제 표시된 매장 행 제거 (@SQLRestriction 을 우회하기 위해 native)
+    * */
+    @Modifying
+    @Query(value = "DELETE FROM store_entity WHERE id = :id AND deleted = TRUE", nativeQuery = true)
+    int purgeDeleted(@Param("id") Long id);
+
+    /*
+    * 매장 캐시 적재용
+    * */
+    @Query("SELECT s.id AS id, s.name AS name, s.address AS address, s.description AS description, " +
+            "m.id AS managerId, m.username AS managerUsername " +
+            "FROM StoreEntity s LEFT JOIN s.manager m " +
+            "WHERE s.id = :id")
+    Optional<StoreSnapshotView> findSnapshotById(@Param("id") Long id);
+
+    /*
+    * 자동완성 인덱스 적재 전 접두어 조회, :prefix 는 소문자 / LIKE 이스케이프 된 값
+    * */
+    @Query("SELECT s.id AS id, s.name AS name, s.address AS address, s.description AS description, " +
+            "s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM StoreEntity s " +
+            "WHERE LOWER(s.name) LIKE CONCAT(:prefix, '%') ESCAPE '!' " +
+            "ORDER BY s.id")
+    List<StoreSearchView> findByNamePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /*
+    * 매장 검색 / 자동완성 / 위치 인덱스 적재용
+    * */
+    @Query("SELECT s.id AS id, s.name AS name, s.address AS address, s.description AS description, " +
+            "s.latitude AS latitude, s.longitude AS longitude " +
+            "FROM StoreEntity s")
+    List<StoreSearchView> findAllSearchViews();
+
+    /*
+    * 위치 인덱스 적재 전 반경 조회용 (반경을 감싸는 범위 내 매장)
+    * */
+    List<StoreSearchView> findByLatitudeBetweenAndLongitudeBetween(Double minLatitude, Double maxLatitude,
+                                                                   Double minLongitude, Double maxLongitude);
 
 }
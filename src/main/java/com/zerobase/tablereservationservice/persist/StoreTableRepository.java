@@ -0,0 +1,28 @@
+package com.zerobase.tablereservationservice.persist;
+
+import com.zerobase.tablereservationservice.persist.entity.StoreTableEntity;
+import com.zerobase.tablereservationservice.persist.projection.StoreTableView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StoreTableRepository extends JpaRepository<StoreTableEntity, Long> {
+
+    List<StoreTableEntity> findByStoreIdOrderBySeatsAsc(Long storeId);
+
+    @Query("SELECT t.id AS id, t.store.id AS storeId, t.seats AS seats FROM StoreTableEntity t")
+    List<StoreTableView> findAllViews();
+
+    @Query("SELECT t.id AS id, t.store.id AS storeId, t.seats AS seats " +
+            "FROM StoreTableEntity t WHERE t.store.id = :storeId")
+    List<StoreTableView> findViewsByStoreId(@Param("storeId") Long storeId);
+
+    @Modifying
+    @Query("DELETE FROM StoreTableEntity t WHERE t.store.id = :storeId")
+    void deleteByStoreId(@Param("storeId") Long storeId);
+}
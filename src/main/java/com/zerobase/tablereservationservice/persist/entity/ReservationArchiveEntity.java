@@ -0,0 +1,48 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+* 보관 기간이 지난 예약 이력 (원본 예약 ID 유지, 연관 관계 없이 ID 만 보관)
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_archive_member", columnList = "memberId, id"),
+        @Index(name = "idx_reservation_archive_store_member", columnList = "storeId, memberId")
+})
+public class ReservationArchiveEntity {
+
+    @Id
+    private Long id;
+
+    private Long storeId;
+
+    private Long memberId;
+
+    /** 테이블 미등록 매장 예약은 null */
+    private Long tableId;
+
+    private Integer partySize;
+
+    private LocalDateTime reservationTime;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private ArrivalStatus arrivalStatus;
+
+    private LocalDateTime arrivalTime;
+
+    private LocalDateTime archivedAt;
+}
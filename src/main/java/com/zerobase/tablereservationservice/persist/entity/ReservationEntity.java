@@ -15,10 +15,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_store_time", columnList = "store_id, reservationTime"),
+        @Index(name = "idx_reservation_arrival_time", columnList = "arrivalStatus, reservationTime")
+})
 public class ReservationEntity {
 
+    // IDENTITY 는 INSERT 배치가 불가하여 시퀀스(pooled) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -29,6 +35,13 @@ public class ReservationEntity {
     @JoinColumn(name="member_id")
     private MemberEntity member;
 
+    // 테이블 미등록 매장의 예약은 null (매장 전체 점유)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="table_id")
+    private StoreTableEntity table;
+
+    private Integer partySize;
+
     private LocalDateTime reservationTime;
 
     @Enumerated(EnumType.STRING)
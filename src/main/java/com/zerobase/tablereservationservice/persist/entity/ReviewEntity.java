@@ -15,15 +15,19 @@ public class ReviewEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // 목록 / 본문 조회는 프로젝션으로 필요한 컬럼만 읽으므로 연관은 지연 로딩
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="store_id")
     private StoreEntity store;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="member_id")
     private MemberEntity member;
 
     @Column(columnDefinition = "TEXT")
     private String review;
 
+    // 별점 (1 ~ 5, 별점 도입 전 리뷰는 null)
+    private Integer rating;
+
 }
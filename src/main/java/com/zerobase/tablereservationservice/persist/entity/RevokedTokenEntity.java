@@ -0,0 +1,25 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+* 폐기된 토큰 ID (토큰 만료 시간이 지나면 정리)
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,41 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+* 예약 시간 점유 기록 (매장 / 레인 / 시작 시간당 한 행, 여러 노드 사이의 중복 예약 방지)
+* 레인은 테이블 ID 이고, 테이블 미등록 매장의 예약은 0(매장 전체)이다.
+* 임시 점유(hold)는 holdId / expiresAt 이 있으며, 만료 시간이 지난 행은 점유로 보지 않는다.
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_slot_claim",
+        columnNames = {"storeId", "laneId", "reservationTime"}),
+        indexes = {
+                @Index(name = "idx_slot_claim_hold", columnList = "holdId"),
+                @Index(name = "idx_slot_claim_time", columnList = "reservationTime")
+        })
+public class SlotClaimEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long storeId;
+
+    private Long laneId;
+
+    private LocalDateTime reservationTime;
+
+    @Column(length = 36)
+    private String holdId;
+
+    private LocalDateTime expiresAt;
+}
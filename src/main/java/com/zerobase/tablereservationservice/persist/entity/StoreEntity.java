@@ -2,6 +2,7 @@ package com.zerobase.tablereservationservice.persist.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 @Builder
 @Getter
@@ -9,6 +10,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_store_location", columnList = "latitude, longitude"))
+@SQLRestriction("deleted = false")
 public class StoreEntity {
 
     @Id
@@ -17,6 +20,11 @@ public class StoreEntity {
     private String name;
     private String address;
     private String description;
+    private Double latitude;
+    private Double longitude;
+
+    // 삭제 요청된 매장 (조회에서 제외되고, 예약 / 리뷰 정리 후 행 삭제)
+    private boolean deleted;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="member_id")
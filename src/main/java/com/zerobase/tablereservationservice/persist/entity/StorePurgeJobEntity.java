@@ -0,0 +1,44 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import com.zerobase.tablereservationservice.type.PurgeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/*
+* 삭제된 매장의 예약 / 보관 예약 / 리뷰 / 테이블 정리 작업 (재기동 후 이어서 진행)
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_store_purge_status", columnList = "status, id"))
+public class StorePurgeJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    private Long storeId;
+
+    @Enumerated(EnumType.STRING)
+    private PurgeStatus status;
+
+    private long reservationsDeleted;
+
+    private long archivedReservationsDeleted;
+
+    private long reviewsDeleted;
+
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String lastError;
+}
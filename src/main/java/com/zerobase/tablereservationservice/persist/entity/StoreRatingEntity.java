@@ -0,0 +1,38 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+* 매장별 리뷰 집계 (리뷰 등록 / 수정 / 삭제 시 증감, 별점 분포는 1 ~ 5점 건수)
+* 별점이 없는 이전 리뷰는 reviewCount 에만 포함되므로 평균은 별점 분포 합계로 나눈다.
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class StoreRatingEntity {
+
+    @Id
+    private Long storeId;
+
+    private long reviewCount;
+
+    private long ratingSum;
+
+    private long star1;
+
+    private long star2;
+
+    private long star3;
+
+    private long star4;
+
+    private long star5;
+
+    public long getRatingCount() {
+        return star1 + star2 + star3 + star4 + star5;
+    }
+}
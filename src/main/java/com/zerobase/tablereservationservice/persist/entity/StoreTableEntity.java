@@ -0,0 +1,28 @@
+package com.zerobase.tablereservationservice.persist.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+* 매장 테이블 (좌석 수)
+* */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class StoreTableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="store_id")
+    private StoreEntity store;
+
+    private String name;
+
+    private int seats;
+}
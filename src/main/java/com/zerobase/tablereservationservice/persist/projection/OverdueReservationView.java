@@ -0,0 +1,13 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+import java.time.LocalDateTime;
+
+/*
+* 미방문 처리 대상 프로젝션 (예약 ID, 예약 시간만 조회, 예약 시간 / ID keyset 위치)
+* */
+public interface OverdueReservationView {
+
+    Long getId();
+
+    LocalDateTime getReservationTime();
+}
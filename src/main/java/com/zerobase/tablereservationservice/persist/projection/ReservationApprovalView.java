@@ -0,0 +1,28 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/*
+* 승인 / 거절 처리용 프로젝션 (예약, 매장, 매장 매니저 ID, 예약 회원 ID)
+* */
+public interface ReservationApprovalView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    Long getManagerId();
+
+    Long getTableId();
+
+    Long getMemberId();
+
+    LocalDateTime getReservationTime();
+
+    ReservationStatus getStatus();
+
+    ArrivalStatus getArrivalStatus();
+}
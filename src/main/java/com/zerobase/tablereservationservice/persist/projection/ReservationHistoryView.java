@@ -0,0 +1,22 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/*
+* 예약 이력 조회용 프로젝션 (운영 / 보관 테이블 공용)
+* */
+public interface ReservationHistoryView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    LocalDateTime getReservationTime();
+
+    ReservationStatus getStatus();
+
+    ArrivalStatus getArrivalStatus();
+}
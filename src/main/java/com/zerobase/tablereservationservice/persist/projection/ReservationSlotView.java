@@ -0,0 +1,15 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+import java.time.LocalDateTime;
+
+/*
+* 예약 점유 인덱스 적재용 프로젝션 (매장 ID, 테이블 ID, 예약 시간만 조회)
+* */
+public interface ReservationSlotView {
+
+    Long getStoreId();
+
+    Long getTableId();
+
+    LocalDateTime getReservationTime();
+}
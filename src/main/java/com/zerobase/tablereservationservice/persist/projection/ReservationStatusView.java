@@ -0,0 +1,16 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+
+/*
+* 잠금 읽기로 조회한 예약 상태 (승인 / 거절 / 취소 판단용)
+* */
+public interface ReservationStatusView {
+
+    Long getId();
+
+    ReservationStatus getStatus();
+
+    ArrivalStatus getArrivalStatus();
+}
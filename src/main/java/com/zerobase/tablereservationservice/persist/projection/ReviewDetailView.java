@@ -0,0 +1,17 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 리뷰 본문 조회용 프로젝션
+* */
+public interface ReviewDetailView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    String getAuthor();
+
+    Integer getRating();
+
+    String getReview();
+}
@@ -0,0 +1,11 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 방문 완료 + 승인된 예약이 있는 회원 / 매장 쌍 (리뷰 작성 자격 인덱스 적재용)
+* */
+public interface ReviewEligibilityView {
+
+    Long getMemberId();
+
+    Long getStoreId();
+}
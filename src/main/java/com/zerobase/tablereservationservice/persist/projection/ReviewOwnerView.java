@@ -0,0 +1,13 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 리뷰 권한 확인용 프로젝션 (작성자, 매장)
+* */
+public interface ReviewOwnerView {
+
+    Long getId();
+
+    Long getAuthorId();
+
+    Long getStoreId();
+}
@@ -0,0 +1,17 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 리뷰 목록용 프로젝션 (본문은 앞부분만, 전체 길이로 잘림 여부 판단)
+* */
+public interface ReviewPreviewView {
+
+    Long getId();
+
+    String getAuthor();
+
+    Integer getRating();
+
+    String getPreview();
+
+    Integer getLength();
+}
@@ -0,0 +1,11 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 매장별 예약 수 (자동완성 인기도)
+* */
+public interface StorePopularityView {
+
+    Long getStoreId();
+
+    Long getReservationCount();
+}
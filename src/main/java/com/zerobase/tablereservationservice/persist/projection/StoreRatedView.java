@@ -0,0 +1,13 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 리뷰 집계를 포함한 매장 검색 결과 (집계 행이 없으면 0)
+* */
+public interface StoreRatedView extends StoreSearchView {
+
+    Long getReviewCount();
+
+    Long getRatingSum();
+
+    Long getRatingCount();
+}
@@ -0,0 +1,23 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 리뷰 테이블에서 다시 계산한 매장별 리뷰 집계 (집계 보정용)
+* */
+public interface StoreRatingView {
+
+    Long getStoreId();
+
+    Long getReviewCount();
+
+    Long getRatingSum();
+
+    Long getStar1();
+
+    Long getStar2();
+
+    Long getStar3();
+
+    Long getStar4();
+
+    Long getStar5();
+}
@@ -0,0 +1,9 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 매장 검색 결과 (일치 순위 포함, 검색 인덱스 적재 전 DB 조회용)
+* */
+public interface StoreSearchHitView extends StoreRatedView {
+
+    Integer getTier();
+}
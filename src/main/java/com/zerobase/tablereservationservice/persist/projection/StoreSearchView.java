@@ -0,0 +1,19 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 매장 검색 / 위치 인덱스 적재용 프로젝션 (매니저 연관 제외)
+* */
+public interface StoreSearchView {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    String getDescription();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
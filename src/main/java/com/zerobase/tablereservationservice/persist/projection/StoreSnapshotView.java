@@ -0,0 +1,19 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 매장 캐시 적재용 프로젝션 (매니저는 ID / 아이디만 조회)
+* */
+public interface StoreSnapshotView {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    String getDescription();
+
+    Long getManagerId();
+
+    String getManagerUsername();
+}
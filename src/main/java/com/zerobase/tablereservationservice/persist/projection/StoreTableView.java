@@ -0,0 +1,13 @@
+package com.zerobase.tablereservationservice.persist.projection;
+
+/*
+* 예약 점유 인덱스 테이블 구성 적재용 프로젝션
+* */
+public interface StoreTableView {
+
+    Long getId();
+
+    Long getStoreId();
+
+    Integer getSeats();
+}
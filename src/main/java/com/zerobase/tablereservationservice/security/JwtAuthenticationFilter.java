@@ -43,9 +43,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(token)) {
             log.debug("Validating token");
 
-            if (this.tokenProvider.validateToken(token)) {
+            // 토큰 파싱 / 서명 검증은 요청당 한 번 (최근 검증한 토큰은 캐시에서)
+            VerifiedToken verified = this.tokenProvider.verify(token);
+
+            if (verified != null) {
                 log.debug("Token is valid. Getting authentication");
-                Authentication auth = tokenProvider.getAuthentication(token);
+                Authentication auth = tokenProvider.getAuthentication(verified);
 
                 if (auth != null) {
                     log.debug("Authentication successful: {}", auth);
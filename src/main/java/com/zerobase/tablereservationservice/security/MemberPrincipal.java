@@ -0,0 +1,47 @@
+package com.zerobase.tablereservationservice.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 인증된 회원 (토큰 클레임으로 만드는 불변 객체, 요청마다 회원을 DB 에서 조회하지 않음)
+ * 비밀번호는 보관하지 않는다.
+ */
+@Getter
+public final class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long id, String username, List<String> roles) {
+        this.id = id;
+        this.username = username;
+        this.roles = roles == null ? List.of() : List.copyOf(roles);
+        this.authorities = this.roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberPrincipal(id=" + id + ", username=" + username + ", roles=" + roles + ")";
+    }
+}
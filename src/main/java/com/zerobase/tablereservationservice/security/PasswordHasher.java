@@ -0,0 +1,170 @@
+package com.zerobase.tablereservationservice.security;
+
+import com.zerobase.tablereservationservice.except.PasswordHashingBusyException;
+import com.zerobase.tablereservationservice.model.HashingStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 계산을 요청 스레드가 아닌 고정 크기 스레드 풀에서 수행하고, 대기열이 가득 차면 즉시 거절하여
+ * 가입 / 로그인 폭주가 예약 요청을 처리할 Tomcat 스레드를 모두 점유하지 않도록 한다.
+ * 해시 이후의 회원 저장 / 토큰 발급은 callbackExecutor 에서 이어서 실행하여 해시 스레드가 DB 응답을 기다리지 않도록 한다.
+ * 후속 작업 대기열도 크기를 제한하며, 가득 차면 해시 대기열 초과와 같이 PasswordHashingBusyException 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int bcryptStrength;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor callbackExecutor;
+    private final Executor busyRejectingCallbackExecutor;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong rehashed = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength,
+                          @Value("${auth.password.hash-threads:0}") int threads,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password.callback-threads:4}") int callbackThreads,
+                          @Value("${auth.password.callback-queue-capacity:256}") int callbackQueueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.bcryptStrength = bcryptStrength;
+        this.queueCapacity = queueCapacity;
+
+        // 0 이면 CPU 절반 (나머지는 요청 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // DB 가 느려 후속 작업이 쌓이면 해시 완료 건이 메모리에 무한정 쌓이지 않도록 대기열 크기 제한
+        AtomicInteger callbackSequence = new AtomicInteger();
+        this.callbackExecutor = new ThreadPoolExecutor(callbackThreads, callbackThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(callbackQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-callback-" + callbackSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 거절 시 이어지는 CompletableFuture 가 PasswordHashingBusyException 으로 완료되어 503 응답으로 처리됨
+        this.busyRejectingCallbackExecutor = runnable -> {
+            try {
+                callbackExecutor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+            }
+        };
+    }
+
+    /**
+     * 비밀번호 해시
+     * @throws PasswordHashingBusyException 대기열이 가득 찬 경우 (호출 스레드에서 즉시)
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부
+     * @throws PasswordHashingBusyException 대기열이 가득 찬 경우 (호출 스레드에서 즉시)
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시 결과를 받아 DB 저장 / 토큰 발급 등을 이어서 할 실행기 (thenApplyAsync 등에 전달)
+     */
+    public Executor callbackExecutor() {
+        return busyRejectingCallbackExecutor;
+    }
+
+    /**
+     * 저장된 해시의 BCrypt cost 가 설정값과 다른지 여부 ($2a$10$... 형식)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != bcryptStrength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public void recordRehash() {
+        rehashed.incrementAndGet();
+    }
+
+    public HashingStatus getStatus() {
+        long count = completed.get();
+        return new HashingStatus(executor.getCorePoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                bcryptStrength,
+                count,
+                rejected.get(),
+                rehashed.get(),
+                count == 0 ? 0 : totalLatencyNanos.get() / (double) count / 1_000_000,
+                maxLatencyNanos.get() / 1_000_000.0);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    long latency = System.nanoTime() - submittedAt;
+                    completed.incrementAndGet();
+                    totalLatencyNanos.addAndGet(latency);
+                    maxLatencyNanos.accumulateAndGet(latency, Math::max);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        callbackExecutor.shutdown();
+    }
+}
@@ -0,0 +1,118 @@
+package com.zerobase.tablereservationservice.security;
+
+import com.zerobase.tablereservationservice.config.RateLimitProperties;
+import com.zerobase.tablereservationservice.support.TokenBucket;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 수 제한 (JwtAuthenticationFilter 다음)
+ * 설정된 경로에 대해 클라이언트 주소 또는 회원 ID 별 토큰 버킷에서 토큰을 하나씩 사용하고,
+ * 토큰이 없으면 429 와 Retry-After(초) 로 응답한다. 버킷은 잠금 없이 갱신하며, 오래 쓰이지 않은 버킷은 주기적으로 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String OVERFLOW_KEY = "*";
+
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /** "경로 패턴|키" -> 버킷 */
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = findRule(request.getRequestURI().substring(request.getContextPath().length()));
+
+        if (rule != null) {
+            long now = System.nanoTime();
+            String key = resolveKey(rule, request);
+            long waitNanos = bucket(rule, key, now).tryAcquire(now);
+
+            if (waitNanos > 0) {
+                long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                log.warn("요청 수 제한 초과 : {} {}", rule.getPath(), key);
+
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /*
+    * 가득 찬 채로 idle-seconds 이상 쓰이지 않은 버킷 제거 (새로 만든 버킷과 상태가 같으므로 제한에 영향 없음)
+    * */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.SECONDS.toNanos(properties.getIdleSeconds());
+
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    private RateLimitProperties.Rule findRule(String path) {
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (pathMatcher.match(rule.getPath(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /*
+    * 버킷 수가 최대치에 도달하면 새 키는 경로별 공용 버킷으로 (메모리 상한 유지)
+    * */
+    private TokenBucket bucket(RateLimitProperties.Rule rule, String key, long now) {
+        String bucketKey = rule.getPath() + "|" + key;
+        TokenBucket bucket = buckets.get(bucketKey);
+
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            bucketKey = rule.getPath() + "|" + OVERFLOW_KEY;
+        }
+        return buckets.computeIfAbsent(bucketKey,
+                k -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+    }
+
+    private static String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.MEMBER) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.getPrincipal() instanceof MemberPrincipal member) {
+                return "member:" + member.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
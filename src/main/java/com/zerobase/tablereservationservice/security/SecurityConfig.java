@@ -1,6 +1,7 @@
 package com.zerobase.tablereservationservice.security;
 
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,19 +32,42 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/signup","/auth/signin").permitAll()
+                        // 스트리밍 응답 완료 후 async 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/auth/signup","/auth/signin","/auth/refresh").permitAll()
+                        .requestMatchers("/auth/signout").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/auth/hash/status").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/store/register").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/store/update").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/store/changemanager").hasAuthority("ROLE_MANAGER")
                         .requestMatchers("/store/delete").hasAuthority("ROLE_MANAGER")
-                        .requestMatchers("/store/search").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/store/table/**").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/store/cache/stats").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/store/purge/**").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/store/detail/**").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/store/search/**").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/store/tables").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/store/suggest").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/store/nearby").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
                         .requestMatchers("/reservation/register").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/register/batch").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/hold/**").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/cancel").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/waitlist/**").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/history").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/reservation/availability").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
                         .requestMatchers("/review/register").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
                         .requestMatchers("/review/update").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
                         .requestMatchers("/review/delete").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/review/list").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
+                        .requestMatchers("/review/detail/**").hasAnyAuthority("ROLE_MANAGER", "ROLE_USER")
                         .requestMatchers("/reservation/approval").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/reservation/approval/batch").hasAuthority("ROLE_MANAGER")
+                        .requestMatchers("/reservation/sweeper/status").hasAuthority("ROLE_MANAGER")
                         .anyRequest().authenticated())
-                        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                        // 회원 ID 로 제한하는 경로가 있으므로 토큰 인증 다음에
+                        .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
 
         return http.build();
@@ -1,27 +1,31 @@
 package com.zerobase.tablereservationservice.security;
 
-import com.zerobase.tablereservationservice.service.MemberService;
+import com.zerobase.tablereservationservice.cache.MemberCache;
+import com.zerobase.tablereservationservice.model.Auth;
+import com.zerobase.tablereservationservice.support.ConcurrentTtlCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -29,11 +33,43 @@ import java.util.stream.Collectors;
 public class TokenProvider {
 
     private static final String KEY_ROLES = "roles";
-    private static final long TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
+    private static final String KEY_MEMBER_ID = "mid";
+    private static final String KEY_TYPE = "typ";
+    private static final String TYPE_REFRESH = "refresh";
 
     @Value("${spring.jwt.secret}")
     private String secretKey;
-    private final MemberService memberService;
+
+    @Value("${spring.jwt.access-ttl-seconds:900}")
+    private long accessTtlSeconds;
+
+    @Value("${spring.jwt.refresh-ttl-seconds:1209600}")
+    private long refreshTtlSeconds;
+
+    @Value("${spring.jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    @Value("${spring.jwt.verified-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
+
+    private final MemberCache memberCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    /** 기동 시 한 번만 만드는 서명 키 / 파서 (JwtParser 는 불변이라 공유 가능) */
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /** 최근 검증한 토큰 (토큰 SHA-256 해시 -> 클레임), 조회 시 토큰 만료 시간도 확인 (요청마다 조회하므로 잠금 없는 캐시) */
+    private ConcurrentTtlCache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(this.secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(this.signingKey)
+                .build();
+        this.verifiedTokens = new ConcurrentTtlCache<>(verifiedCacheMaxSize, verifiedCacheTtlSeconds * 1000);
+    }
 
     /**
      * 키를 생성하는 메서드
@@ -46,115 +82,201 @@ public class TokenProvider {
     }
 
     /**
-     * 토큰 생성(발급)
+     * 액세스 / 리프레시 토큰 발급
      *
+     * @param memberId 회원 ID
+     * @param username 사용자 이름
+     * @param roles    사용자 역할
+     */
+    public Auth.Token issue(Long memberId, String username, List<String> roles) {
+        return new Auth.Token(generateToken(memberId, username, roles),
+                build(memberId, username, roles, true, this.refreshTtlSeconds),
+                this.accessTtlSeconds);
+    }
+
+    /**
+     * 액세스 토큰 생성(발급)
+     *
+     * @param memberId 회원 ID
      * @param username 사용자 이름
      * @param roles    사용자 역할
      * @return JWT 문자열
      */
-    public String generateToken(String username, List<String> roles) {
+    public String generateToken(Long memberId, String username, List<String> roles) {
+        return build(memberId, username, roles, false, this.accessTtlSeconds);
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급 (비밀번호 확인 없음)
+     * 사용한 리프레시 토큰은 폐기하며, 이미 폐기된 리프레시 토큰은 거부한다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 새 액세스 / 리프레시 토큰
+     */
+    public Auth.Token refresh(String refreshToken) {
+        VerifiedToken verified = verify(refreshToken, true);
+
+        if (verified == null || verified.tokenId() == null) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        // 동시에 같은 토큰으로 요청해도 한 번만 재발급 (DB 에 먼저 기록한 요청만 통과)
+        if (!tokenRevocationList.revoke(verified.tokenId(), verified.expiresAtMillis())) {
+            throw new RuntimeException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        MemberPrincipal member = memberCache.find(verified.username())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
+
+        return issue(member.getId(), member.getUsername(), member.getRoles());
+    }
+
+    /**
+     * 로그아웃 (액세스 토큰과, 같은 회원의 리프레시 토큰 폐기)
+     *
+     * @param accessToken  액세스 토큰
+     * @param refreshToken 리프레시 토큰 (없으면 null)
+     */
+    public void revoke(String accessToken, String refreshToken) {
+        VerifiedToken access = verify(accessToken, false);
+
+        if (access == null) {
+            throw new RuntimeException("유효하지 않은 토큰입니다.");
+        }
+        if (access.tokenId() != null) {
+            tokenRevocationList.revoke(access.tokenId(), access.expiresAtMillis());
+        }
+
+        VerifiedToken refresh = StringUtils.hasText(refreshToken) ? verify(refreshToken, true) : null;
+        if (refresh != null && refresh.username().equals(access.username())) {
+            tokenRevocationList.revoke(refresh.tokenId(), refresh.expiresAtMillis());
+        }
+    }
+
+    private String build(Long memberId, String username, List<String> roles, boolean refresh, long ttlSeconds) {
         Claims claims = Jwts.claims().setSubject(username);
+        claims.put(KEY_MEMBER_ID, memberId);
         claims.put(KEY_ROLES, roles);
+        if (refresh) {
+            claims.put(KEY_TYPE, TYPE_REFRESH);
+        }
 
         var now = new Date();
-        var expiredDate = new Date(now.getTime() + TOKEN_EXPIRE_TIME);
+        var expiredDate = new Date(now.getTime() + ttlSeconds * 1000);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiredDate)
-                .signWith(getSecretKey(), SignatureAlgorithm.HS512)
+                .signWith(this.signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     /**
-     * 토큰에서 사용자 이름 추출
+     * 토큰 검증 (요청당 한 번)
+     * 최근 검증한 토큰은 서명 검증 / 파싱 없이 캐시에서 반환하고, 만료 / 폐기된 토큰은 캐시에 있어도 거부한다.
+     * 리프레시 토큰은 액세스 토큰으로 사용할 수 없다.
      *
      * @param token JWT 문자열
-     * @return 사용자 이름
+     * @return 유효하면 클레임, 비어 있거나 만료 / 폐기 / 위조되었으면 null
      */
-    public String getUsername(String token) {
-        return this.parseClaims(token).getSubject();
+    public VerifiedToken verify(String token) {
+        return verify(token, false);
     }
 
-    /**
-     * 토큰 유효성 검증
-     *
-     * @param token JWT 문자열
-     * @return 유효한 토큰인지 여부
-     */
-    public boolean validateToken(String token) {
+    private VerifiedToken verify(String token, boolean refresh) {
         if (!StringUtils.hasText(token)) {
             log.warn("Token is empty or null");
-            return false;
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = hash(token);
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.isExpired(now)) {
+                verifiedTokens.invalidate(key);
+                log.warn("Token is expired");
+                return null;
+            }
+            return accept(cached, refresh);
         }
 
         try {
-            Claims claims = this.parseClaims(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Number memberId = claims.get(KEY_MEMBER_ID, Number.class);
+            VerifiedToken verified = new VerifiedToken(claims.getId(),
+                    memberId == null ? null : memberId.longValue(),
+                    claims.getSubject(),
+                    claims.get(KEY_ROLES, List.class),
+                    claims.getExpiration().getTime(),
+                    TYPE_REFRESH.equals(claims.get(KEY_TYPE, String.class)));
 
-            boolean isTokenExpired = claims.getExpiration().before(new Date());
-            if (isTokenExpired) {
+            if (verified.isExpired(now)) {
                 log.warn("Token is expired");
-                return false;
+                return null;
             }
 
             log.debug("Token is valid. Expiration time: {}", claims.getExpiration());
-            return true;
+            verifiedTokens.put(key, verified);
+            return accept(verified, refresh);
 
         } catch (ExpiredJwtException e) {
             log.warn("Token is expired. Exception message: {}", e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
-            log.error("An error occurred while validating token: {}", e.getMessage(), e);
-            return false;
+            log.error("An error occurred while validating token: {}", e.getMessage());
+            return null;
         }
     }
 
     /**
-     * 토큰의 클레임 파싱
+     * 인증 객체 생성
+     * 회원 ID / 권한은 토큰 클레임에서 가져오고, 회원 ID 클레임이 없는 이전 토큰만 회원 캐시로 조회한다.
      *
-     * @param token JWT 문자열
-     * @return 클레임 객체
+     * @param token 검증된 토큰
+     * @return Authentication 객체 (회원이 없으면 null)
      */
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSecretKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+    public Authentication getAuthentication(VerifiedToken token) {
+        MemberPrincipal principal = token.memberId() != null
+                ? new MemberPrincipal(token.memberId(), token.username(), token.roles())
+                : memberCache.find(token.username())
+                        .map(member -> new MemberPrincipal(member.getId(), member.getUsername(), token.roles()))
+                        .orElse(null);
+
+        if (principal == null) {
+            return null;
         }
-    }
 
-    /**
-     * SecretKey 생성
-     *
-     * @return SecretKey 객체
-     */
-    private SecretKey getSecretKey() {
-        byte[] decodedKey = Base64.getDecoder().decode(this.secretKey);
-        return Keys.hmacShaKeyFor(decodedKey);
+        log.debug("Parsed roles: {}", token.roles());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
     }
 
-    /**
-     * 인증 객체 생성
-     *
-     * @param jwt JWT 문자열
-     * @return Authentication 객체
-     */
-    public Authentication getAuthentication(String jwt) {
-        Claims claims = this.parseClaims(jwt);
-        List<String> roles = claims.get(KEY_ROLES, List.class);
-
-        List<GrantedAuthority> authorities = roles.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-        UserDetails userDetails = memberService.loadUserByUsername(this.getUsername(jwt));
+    /*
+    * 토큰 종류 / 폐기 여부 확인 (폐기 목록은 메모리에서만 조회)
+    * */
+    private VerifiedToken accept(VerifiedToken verified, boolean refresh) {
+        if (verified.refresh() != refresh) {
+            log.warn("Token type mismatch");
+            return null;
+        }
+        if (tokenRevocationList.isRevoked(verified.tokenId())) {
+            log.warn("Token is revoked");
+            return null;
+        }
+        return verified;
+    }
 
-        log.debug("Parsed roles: {}", claims.get("roles"));
-        return new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
+    /*
+    * 검증 캐시 키 (토큰 원문을 메모리에 보관하지 않도록 해시)
+    * */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
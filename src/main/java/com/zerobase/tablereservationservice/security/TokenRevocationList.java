@@ -0,0 +1,143 @@
+package com.zerobase.tablereservationservice.security;
+
+import com.zerobase.tablereservationservice.cache.CacheInvalidationBus;
+import com.zerobase.tablereservationservice.persist.RevokedTokenRepository;
+import com.zerobase.tablereservationservice.persist.entity.RevokedTokenEntity;
+import com.zerobase.tablereservationservice.support.BloomFilter;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 목록 (토큰 ID -> 토큰 만료 시각)
+ * 요청마다 호출되는 isRevoked 는 Bloom 필터에서 대부분 바로 false 를 반환하고, 필터에 걸린 경우에만 정확한 집합을 확인한다.
+ * 폐기 기록은 DB 에 남겨 재기동 / 다른 노드에서 다시 적재하며, 토큰 만료 시간이 지난 항목은 주기적으로 정리하고 필터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    public static final String CHANNEL = "token-revocation";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int expectedSize;
+    private final double falsePositiveRate;
+
+    /** 조회는 잠금 없이, 추가 / 재구성은 synchronized (재구성 중 추가된 항목이 새 필터에서 빠지지 않도록) */
+    private volatile Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               CacheInvalidationBus invalidationBus,
+                               @Value("${spring.jwt.revocation.expected-size:100000}") int expectedSize,
+                               @Value("${spring.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.invalidationBus = invalidationBus;
+        this.expectedSize = expectedSize;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedSize, falsePositiveRate);
+    }
+
+    /*
+    * 기동 시 적재 (실패하면 폐기된 토큰을 통과시키지 않도록 기동을 중단)
+    * */
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(CHANNEL, this::onRevoked);
+        rebuild();
+        log.info("폐기 토큰 목록 적재 완료 : {} 건", revoked.size());
+    }
+
+    /**
+     * 폐기 여부 (DB 조회 없음)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        return filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 폐기
+     * @param expiresAtMillis 토큰 만료 시각 (이후 목록에서 정리)
+     * @return 이번 호출로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String tokenId, long expiresAtMillis) {
+        int inserted = revokedTokenRepository.insertIfAbsent(tokenId, toLocalDateTime(expiresAtMillis));
+
+        TransactionHooks.afterCommit(() -> invalidationBus.publish(CHANNEL, tokenId + ":" + expiresAtMillis));
+        return inserted > 0;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /*
+    * 만료된 폐기 기록 정리 후 필터 재구성
+    * */
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.prune-millis:600000}",
+            initialDelayString = "${spring.jwt.revocation.prune-millis:600000}")
+    public void prune() {
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            rebuild();
+            log.debug("폐기 토큰 목록 정리 : 삭제 {} 건, 남은 {} 건", deleted, revoked.size());
+        } catch (Exception e) {
+            log.error("폐기 토큰 목록 정리 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void onRevoked(String message) {
+        int separator = message.lastIndexOf(':');
+        add(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)));
+    }
+
+    private synchronized void add(String tokenId, long expiresAtMillis) {
+        // 집합에 먼저 넣어야 필터 비트를 본 조회 스레드가 집합에서도 찾음
+        revoked.put(tokenId, expiresAtMillis);
+        filter.put(tokenId);
+    }
+
+    /*
+    * DB 의 만료되지 않은 폐기 기록 + 메모리에만 있는 항목으로 집합 / 필터를 새로 만들어 교체
+    * */
+    private synchronized void rebuild() {
+        long now = System.currentTimeMillis();
+        List<RevokedTokenEntity> rows = revokedTokenRepository.findByExpiresAtAfter(toLocalDateTime(now));
+
+        Map<String, Long> next = new HashMap<>();
+        for (RevokedTokenEntity row : rows) {
+            next.put(row.getTokenId(), row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        revoked.forEach((tokenId, expiresAt) -> {
+            if (expiresAt > now) {
+                next.putIfAbsent(tokenId, expiresAt);
+            }
+        });
+
+        // 예상 크기를 넘으면 오탐률이 올라가므로 여유 있게 다시 잡음
+        BloomFilter nextFilter = new BloomFilter(Math.max(expectedSize, next.size() * 2), falsePositiveRate);
+        next.keySet().forEach(nextFilter::put);
+
+        this.revoked = new ConcurrentHashMap<>(next);
+        this.filter = nextFilter;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
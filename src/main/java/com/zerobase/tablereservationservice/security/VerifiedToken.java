@@ -0,0 +1,15 @@
+package com.zerobase.tablereservationservice.security;
+
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 (검증 캐시에 보관)
+ * 회원 ID / 토큰 ID 클레임이 없는 이전 토큰은 memberId / tokenId 가 null 이다.
+ */
+public record VerifiedToken(String tokenId, Long memberId, String username, List<String> roles,
+                            long expiresAtMillis, boolean refresh) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
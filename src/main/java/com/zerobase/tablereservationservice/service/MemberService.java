@@ -1,16 +1,19 @@
 package com.zerobase.tablereservationservice.service;
 
+import com.zerobase.tablereservationservice.except.PasswordHashingBusyException;
 import com.zerobase.tablereservationservice.model.Auth;
 import com.zerobase.tablereservationservice.persist.MemberRepository;
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import com.zerobase.tablereservationservice.security.PasswordHasher;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 
 
 @Slf4j
@@ -19,7 +22,7 @@ import org.springframework.stereotype.Service;
 public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -28,35 +31,61 @@ public class MemberService implements UserDetailsService {
     }
 
     /**
-     * 회원 가입
+     * 회원 가입 (비밀번호 해시는 해시 전용 스레드에서, 저장은 해시 후속 작업 스레드에서)
+     * @throws PasswordHashingBusyException 해시 대기열이 가득 찬 경우
      */
-    public MemberEntity register(Auth.SignUp member){
+    public CompletableFuture<MemberEntity> register(Auth.SignUp member){
         boolean exists = this.memberRepository.existsByUsername(member.getUsername());
 
         if(exists){
             log.info("이미 존재하는 회원입니다.");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        member.setPassword(this.passwordEncoder.encode(member.getPassword()));
-
-        return this.memberRepository.save(member.toEntity());
+        return this.passwordHasher.encode(member.getPassword())
+                .thenApplyAsync(encoded -> {
+                    member.setPassword(encoded);
+                    return this.memberRepository.save(member.toEntity());
+                }, this.passwordHasher.callbackExecutor());
     }
 
     /*
-    * 로그인
+    * 로그인 (비밀번호 비교는 해시 전용 스레드에서, BCrypt cost 가 바뀐 해시는 로그인 성공 후 다시 해시)
     * */
-    public MemberEntity authenticate(Auth.SignIn member){
+    public CompletableFuture<MemberEntity> authenticate(Auth.SignIn member){
 
         var user = this.memberRepository.findByUsername(member.getUsername())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 ID입니다."));
 
-        if(!passwordEncoder.matches(member.getPassword(), user.getPassword())){
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
-        }
-
-        return user;
+        return this.passwordHasher.matches(member.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    if(!matched){
+                        throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+                    }
+                    if(this.passwordHasher.needsRehash(user.getPassword())){
+                        rehash(user, member.getPassword());
+                    }
+                    return user;
+                });
     }
 
-
+    /*
+    * 재해시는 로그인 응답을 기다리게 하지 않으며, 대기열이 가득 차면 다음 로그인으로 미룸
+    * */
+    private void rehash(MemberEntity user, String rawPassword) {
+        try {
+            this.passwordHasher.encode(rawPassword)
+                    .thenAcceptAsync(encoded -> {
+                        if(this.memberRepository.updatePassword(user.getId(), user.getPassword(), encoded) > 0){
+                            this.passwordHasher.recordRehash();
+                        }
+                    }, this.passwordHasher.callbackExecutor())
+                    .exceptionally(e -> {
+                        log.error("비밀번호 재해시 실패 : {}", e.getMessage());
+                        return null;
+                    });
+        } catch (PasswordHashingBusyException e) {
+            log.debug("비밀번호 재해시 연기 : {}", user.getUsername());
+        }
+    }
 }
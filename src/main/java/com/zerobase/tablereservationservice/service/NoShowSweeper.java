@@ -0,0 +1,154 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.model.SweeperStatus;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.SlotClaimRepository;
+import com.zerobase.tablereservationservice.persist.projection.OverdueReservationView;
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미방문(NO_ARRIVAL) 처리 작업
+ * 예약 시간이 지난 WAITING 예약을 (예약 시간, id) 기준 keyset 페이지로 조회하여 배치 단위로 처리한다.
+ * 배치마다 별도 트랜잭션으로 커밋하고, 배치 사이에 쉬어 예약 트래픽과 경합하지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoShowSweeper {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final SlotClaimRepository slotClaimRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong totalProcessed = new AtomicLong();
+
+    @Value("${reservation.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservation.sweeper.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${reservation.sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${reservation.sweeper.grace-minutes:0}")
+    private long graceMinutes;
+
+    private volatile boolean running;
+    private volatile long lastRunProcessed;
+    private volatile int lastRunBatches;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile long lagSeconds;
+
+    @Scheduled(initialDelayString = "${reservation.sweeper.interval-millis:60000}",
+            fixedDelayString = "${reservation.sweeper.interval-millis:60000}")
+    public void sweep() {
+
+        running = true;
+        lastRunStartedAt = LocalDateTime.now();
+        LocalDateTime cutoff = lastRunStartedAt.minusMinutes(graceMinutes);
+
+        long processed = 0;
+        int batches = 0;
+        long lastId = 0;
+
+        try {
+            // 가장 오래된 대상 예약 시간부터 시작 (대상이 없으면 null)
+            LocalDateTime lastTime = reservationRepository.findOldestReservationTime(ArrivalStatus.WAITING, cutoff);
+
+            while (lastTime != null && batches < maxBatchesPerRun) {
+
+                List<OverdueReservationView> overdue = reservationRepository.findOverdue(ArrivalStatus.WAITING,
+                        cutoff, lastTime, lastId, PageRequest.ofSize(batchSize));
+
+                if (overdue.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = overdue.stream().map(OverdueReservationView::getId).toList();
+
+                Integer updated = transactionTemplate.execute(status ->
+                        reservationRepository.updateArrivalStatus(ids, ArrivalStatus.WAITING, ArrivalStatus.NO_ARRIVAL));
+
+                processed += updated == null ? 0 : updated;
+                batches++;
+                lastTime = overdue.get(overdue.size() - 1).getReservationTime();
+                lastId = overdue.get(overdue.size() - 1).getId();
+
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("미방문 처리 중 오류 발생 : {}", e.getMessage());
+        } finally {
+            totalProcessed.addAndGet(processed);
+            lastRunProcessed = processed;
+            lastRunBatches = batches;
+            lastRunFinishedAt = LocalDateTime.now();
+            lagSeconds = computeLag(cutoff);
+            running = false;
+        }
+
+        // 지난 일자의 점유 비트맵 / 새 예약과 겹칠 수 없는 점유 기록과 만료된 임시 점유 기록 정리
+        reservationSlotIndex.pruneBefore(cutoff.minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES));
+        try {
+            slotClaimRepository.deleteStale(cutoff.minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES),
+                    LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("예약 점유 기록 정리 중 오류 발생 : {}", e.getMessage());
+        }
+
+        log.info("미방문 처리 완료 : {} 건 ({} 배치), 지연 {} 초", processed, batches, lagSeconds);
+    }
+
+    /**
+     * 진행 상태 조회
+     */
+    public SweeperStatus getStatus() {
+        return new SweeperStatus(running,
+                totalProcessed.get(),
+                lastRunProcessed,
+                lastRunBatches,
+                format(lastRunStartedAt),
+                format(lastRunFinishedAt),
+                lagSeconds);
+    }
+
+    /*
+    * 처리되지 않고 남은 가장 오래된 미방문 예약의 경과 시간
+    * */
+    private long computeLag(LocalDateTime cutoff) {
+        try {
+            LocalDateTime oldest = reservationRepository.findOldestReservationTime(ArrivalStatus.WAITING, cutoff);
+            return oldest == null ? 0 : Duration.between(oldest, cutoff).getSeconds();
+        } catch (Exception e) {
+            log.error("미방문 처리 지연 계산 실패 : {}", e.getMessage());
+            return lagSeconds;
+        }
+    }
+
+    private static String format(LocalDateTime time) {
+        return time == null ? null : TIME_FORMATTER.format(time);
+    }
+}
@@ -0,0 +1,76 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 예약 보관 작업
+ * 보관 기간이 지난 예약을 id keyset 배치 단위로 보관 테이블에 복사한 뒤 운영 테이블에서 삭제한다.
+ * 복사와 삭제는 배치마다 하나의 트랜잭션으로 처리하여 중간에 중단되어도 이력이 유실되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationArchiver {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reservation.archive.horizon-days:365}")
+    private long horizonDays;
+
+    @Value("${reservation.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservation.archive.pause-millis:200}")
+    private long pauseMillis;
+
+    @Scheduled(cron = "${reservation.archive.cron:0 0 4 * * *}")
+    public void archive() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(horizonDays);
+        long archived = 0;
+        long lastId = 0;
+
+        try {
+            while (true) {
+
+                List<Long> ids = reservationRepository.findIdsBefore(cutoff, lastId, PageRequest.ofSize(batchSize));
+
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer moved = transactionTemplate.execute(status -> {
+                    reservationArchiveRepository.copyFromReservations(ids);
+                    return reservationRepository.deleteAllByIds(ids);
+                });
+
+                archived += moved == null ? 0 : moved;
+                lastId = ids.get(ids.size() - 1);
+
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("예약 보관 중 오류 발생 : {}", e.getMessage());
+        }
+
+        log.info("예약 보관 완료 : {} 건 ({} 이전)", archived, cutoff);
+    }
+}
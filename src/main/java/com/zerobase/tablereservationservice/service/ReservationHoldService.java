@@ -0,0 +1,261 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.cache.StoreSnapshot;
+import com.zerobase.tablereservationservice.except.ReservationHoldException;
+import com.zerobase.tablereservationservice.except.ReservationTimeException;
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.index.SlotAllocator;
+import com.zerobase.tablereservationservice.model.HoldResponse;
+import com.zerobase.tablereservationservice.model.ReservationRequest;
+import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import com.zerobase.tablereservationservice.persist.entity.ReservationEntity;
+import com.zerobase.tablereservationservice.support.HashedTimingWheel;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예약 임시 점유(hold) 기능
+ * 임시 점유는 예약과 동일하게 테이블을 배정받아 다른 예약 요청을 막고,
+ * 확정되지 않으면 타이밍 휠에 의해 만료되어 점유가 해제된다.
+ * DB 점유 기록에는 만료 시간을 함께 남기므로, 타이밍 휠이 돌지 않은 노드가 있어도 만료 후에는 다른 예약이 가능하다.
+ * 회원별로 진행 중인 임시 점유 수를 제한하여 한 회원이 테이블을 계속 잡아 두지 못하도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationHoldService {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 512;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ReservationRepository reservationRepository;
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+    private final StoreTableRepository storeTableRepository;
+    private final SlotAllocator slotAllocator;
+    private final StoreCache storeCache;
+    private final WaitlistService waitlistService;
+
+    private final Map<String, SlotHold> holds = new ConcurrentHashMap<>();
+
+    /** 회원 ID -> 진행 중인 임시 점유 수 */
+    private final Map<Long, Integer> holdCounts = new ConcurrentHashMap<>();
+
+    @Value("${reservation.hold.ttl-seconds:300}")
+    private long holdTtlSeconds;
+
+    @Value("${reservation.hold.max-per-member:3}")
+    private int maxHoldsPerMember;
+
+    private HashedTimingWheel timingWheel;
+
+    /** 만료 후 대기열 승격은 DB 작업이므로 타이밍 휠 워커 대신 실행 */
+    private ExecutorService expiryExecutor;
+
+    @PostConstruct
+    public void start() {
+        this.timingWheel = new HashedTimingWheel("reservation-hold-wheel", TICK_MILLIS, WHEEL_SIZE);
+        this.expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.timingWheel.close();
+        this.expiryExecutor.shutdown();
+    }
+
+    /**
+     * 예약 임시 점유 기능
+     */
+    @Transactional
+    public HoldResponse hold(ReservationRequest request, Long memberId) {
+
+        if(!storeCache.exists(request.getStoreId())){
+            throw new RuntimeException("존재하지 않는 매장 ID입니다.");
+        }
+
+        LocalDateTime startTime = request.getReservationTime();
+
+        if(!ReservationEntity.isValidReservation(startTime, LocalDateTime.now())){
+            throw new ReservationTimeException("예약 시간 과거는 예약 할 수 없습니다.");
+        }
+
+        String holdId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdTtlSeconds);
+
+        int partySize = request.getPartySize();
+        acquireHoldCount(memberId);
+
+        Long tableId;
+        try{
+            tableId = slotAllocator.allocateHold(request.getStoreId(), startTime, partySize, holdId, expiresAt);
+        } catch(RuntimeException e){
+            releaseHoldCount(memberId);
+            throw e;
+        }
+
+        if(tableId == null){
+            releaseHoldCount(memberId);
+            throw new ReservationTimeException("해당 시간에는 예약 가능한 테이블이 없습니다.");
+        }
+
+        SlotHold slotHold = new SlotHold(holdId, memberId, request.getStoreId(), tableId, partySize, startTime,
+                timingWheel.schedule(() -> expire(holdId), holdTtlSeconds * 1000));
+        holds.put(holdId, slotHold);
+
+        // 점유 기록 실패 시 임시 점유 취소
+        TransactionHooks.afterRollback(() -> {
+            if(holds.remove(holdId, slotHold)){
+                slotHold.timeout().cancel();
+                releaseHoldCount(memberId);
+                slotAllocator.release(slotHold.storeId(), tableId, startTime);
+            }
+        });
+
+        return new HoldResponse(holdId, request.getStoreId(),
+                TIME_FORMATTER.format(startTime), TIME_FORMATTER.format(expiresAt));
+    }
+
+    /**
+     * 임시 점유 확정 기능 (예약 등록)
+     * 점유는 임시 점유에서 예약으로 그대로 이전된다.
+     */
+    @Transactional
+    public void commit(String holdId, Long memberId) {
+
+        SlotHold slotHold = findOwnHold(holdId, memberId);
+
+        if(!holds.remove(holdId, slotHold)){
+            throw new ReservationHoldException("만료된 임시 예약입니다.");
+        }
+        slotHold.timeout().cancel();
+        releaseHoldCount(memberId);
+
+        // 확정 실패 시 점유 해제
+        TransactionHooks.afterRollback(() -> slotAllocator.release(slotHold.storeId(), slotHold.tableId(), slotHold.reservationTime()));
+
+        // 만료 시간이 지나 DB 점유 기록이 다른 예약에 넘어갔을 수 있음
+        if(!slotAllocator.confirmHold(holdId)){
+            throw new ReservationHoldException("만료된 임시 예약입니다.");
+        }
+
+        MemberEntity memberEntity = memberRepository.findById(memberId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 회원 ID입니다."));
+
+        StoreSnapshot store = storeCache.find(slotHold.storeId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID입니다."));
+
+        ReservationEntity reservationEntity = ReservationEntity.builder()
+                .member(memberEntity)
+                .store(storeRepository.getReferenceById(store.id()))
+                .table(slotHold.tableId() == ReservationSlotIndex.STORE_LANE ? null
+                        : storeTableRepository.getReferenceById(slotHold.tableId()))
+                .partySize(slotHold.partySize())
+                .reservationTime(slotHold.reservationTime())
+                .arrivalStatus(ArrivalStatus.WAITING)
+                .status(ReservationStatus.PENDING)
+                .build();
+
+        reservationRepository.save(reservationEntity);
+    }
+
+    /**
+     * 임시 점유 취소 기능
+     */
+    @Transactional
+    public void cancel(String holdId, Long memberId) {
+
+        SlotHold slotHold = findOwnHold(holdId, memberId);
+
+        if(holds.remove(holdId, slotHold)){
+            slotHold.timeout().cancel();
+            releaseHoldCount(memberId);
+            slotAllocator.unclaimHold(holdId);
+            TransactionHooks.afterCommit(() ->
+                    slotAllocator.release(slotHold.storeId(), slotHold.tableId(), slotHold.reservationTime()));
+        }
+    }
+
+    private SlotHold findOwnHold(String holdId, Long memberId) {
+
+        SlotHold slotHold = holds.get(holdId);
+
+        if(slotHold == null){
+            throw new ReservationHoldException("만료되었거나 존재하지 않는 임시 예약입니다.");
+        }
+        if(!slotHold.memberId().equals(memberId)){
+            throw new ReservationHoldException("본인의 임시 예약만 처리할 수 있습니다.");
+        }
+        return slotHold;
+    }
+
+    /*
+    * 회원의 진행 중인 임시 점유 수 증가 (상한에 도달했으면 예외)
+    * */
+    private void acquireHoldCount(Long memberId) {
+        holdCounts.compute(memberId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if(current >= maxHoldsPerMember){
+                throw new ReservationHoldException("임시 예약은 회원당 최대 " + maxHoldsPerMember + "건까지 가능합니다.");
+            }
+            return current + 1;
+        });
+    }
+
+    private void releaseHoldCount(Long memberId) {
+        holdCounts.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /*
+    * 타이밍 휠 워커 스레드에서 호출되는 만료 처리
+    * DB 점유 기록은 만료 시간이 지나면 점유로 보지 않으므로 여기서는 인덱스만 해제 (정리는 NoShowSweeper)
+    * 예약 취소와 같이 해제 후 대기열 맨 앞 회원을 승격한다.
+    * */
+    private void expire(String holdId) {
+
+        SlotHold slotHold = holds.remove(holdId);
+
+        if(slotHold != null){
+            releaseHoldCount(slotHold.memberId());
+            slotAllocator.release(slotHold.storeId(), slotHold.tableId(), slotHold.reservationTime());
+            log.debug("임시 예약 만료 : {}", holdId);
+
+            try{
+                expiryExecutor.execute(() -> waitlistService.promote(slotHold.storeId(), slotHold.reservationTime()));
+            } catch(RejectedExecutionException e){
+                log.warn("임시 예약 만료 후 대기열 승격 생략 (종료 중) : {}", holdId);
+            }
+        }
+    }
+
+    private record SlotHold(String holdId, Long memberId, Long storeId, Long tableId, int partySize,
+                            LocalDateTime reservationTime, HashedTimingWheel.Timeout timeout) {
+    }
+}
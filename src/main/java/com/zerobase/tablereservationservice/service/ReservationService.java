@@ -1,31 +1,75 @@
 package com.zerobase.tablereservationservice.service;
 
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.cache.StoreSnapshot;
 import com.zerobase.tablereservationservice.except.ReservationTimeException;
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.index.ReviewEligibilityIndex;
+import com.zerobase.tablereservationservice.index.SlotAllocator;
+import com.zerobase.tablereservationservice.model.ApprovalResult;
+import com.zerobase.tablereservationservice.model.AvailabilityResponse;
 import com.zerobase.tablereservationservice.model.CheckApprovalRequest;
+import com.zerobase.tablereservationservice.model.ReservationBatchResult;
+import com.zerobase.tablereservationservice.model.ReservationHistoryResponse;
 import com.zerobase.tablereservationservice.model.ReservationRequest;
+import com.zerobase.tablereservationservice.model.ReservationResponse;
 import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
 import com.zerobase.tablereservationservice.persist.ReservationRepository;
 import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
 import com.zerobase.tablereservationservice.persist.entity.ReservationEntity;
 import com.zerobase.tablereservationservice.persist.entity.StoreEntity;
+import com.zerobase.tablereservationservice.persist.entity.StoreTableEntity;
+import com.zerobase.tablereservationservice.persist.projection.ReservationApprovalView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationHistoryView;
+import com.zerobase.tablereservationservice.persist.projection.ReservationStatusView;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
 import com.zerobase.tablereservationservice.type.ArrivalStatus;
 import com.zerobase.tablereservationservice.type.ReservationStatus;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class ReservationService {
 
+    private static final int BATCH_MAX_SIZE = 100;
+    private static final int HISTORY_MAX_SIZE = 50;
+    private static final int AVAILABILITY_STEP_MINUTES = 60;
+    private static final int AVAILABILITY_MAX_DAYS = 31;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final WaitlistService waitlistService;
+    private final SlotAllocator slotAllocator;
+    private final StoreTableRepository storeTableRepository;
+    private final StoreCache storeCache;
+    private final ReviewEligibilityIndex reviewEligibilityIndex;
 
     /**
      *  예약 등록 기능
@@ -36,29 +80,32 @@ public class ReservationService {
         MemberEntity memberEntity = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 회원 ID입니다."));
 
-        StoreEntity storeEntity = storeRepository.findById(request.getStoreId())
+        StoreSnapshot store = storeCache.find(request.getStoreId())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID입니다."));
 
         LocalDateTime startTime = request.getReservationTime();
-        LocalDateTime endTime = startTime.plusHours(1);
-
-        boolean isExistReservation = reservationRepository.
-                existsByStoreAndReservationTime(request.getStoreId(),startTime,endTime);
 
         boolean isValidReservation = ReservationEntity.isValidReservation(request.getReservationTime(), LocalDateTime.now());
 
-        if(isExistReservation){
-            throw new ReservationTimeException("해당 시간에는 예약 시간이 존재합니다.");
-        }
-
         if(!isValidReservation){
             throw new ReservationTimeException("예약 시간 과거는 예약 할 수 없습니다.");
         }
 
+        // 인덱스로 빈 테이블을 고르고 같은 트랜잭션에서 DB 점유 기록으로 확정 (여러 노드의 동시 요청 중복 예약 방지)
+        int partySize = request.getPartySize();
+        Long tableId = slotAllocator.allocate(store.id(), startTime, partySize);
+
+        if(tableId == null){
+            throw new ReservationTimeException("해당 시간에는 예약 가능한 테이블이 없습니다.");
+        }
+
+        TransactionHooks.afterRollback(() -> slotAllocator.release(store.id(), tableId, startTime));
 
         ReservationEntity reservationEntity = ReservationEntity.builder()
                 .member(memberEntity)
-                .store(storeEntity)
+                .store(storeRepository.getReferenceById(store.id()))
+                .table(toTableReference(tableId))
+                .partySize(partySize)
                 .reservationTime(request.getReservationTime())
                 .arrivalStatus(ArrivalStatus.WAITING)
                 .status(ReservationStatus.PENDING)
@@ -68,6 +115,201 @@ public class ReservationService {
 
     }
 
+    /**
+     * 일괄 예약 등록 기능
+     * 회원, 매장은 한 번씩만 조회하고, 충돌 확인 후 성공 건을 한 번에 저장 (JDBC batch insert)
+     * @return 요청 순서대로 건별 처리 결과
+     */
+    @Transactional
+    public List<ReservationBatchResult> registerReservations(List<ReservationRequest> requests, Long memberId) {
+
+        if(requests == null || requests.isEmpty() || requests.size() > BATCH_MAX_SIZE){
+            throw new ReservationTimeException("일괄 예약은 1건 이상 " + BATCH_MAX_SIZE + "건 이하로 요청해야 합니다.");
+        }
+
+        MemberEntity memberEntity = memberRepository.findById(memberId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 회원 ID입니다."));
+
+        Set<Long> storeIds = requests.stream()
+                .map(ReservationRequest::getStoreId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, StoreEntity> stores = new HashMap<>();
+        for (Long storeId : storeIds) {
+            storeCache.find(storeId).ifPresent(store -> stores.put(store.id(), storeRepository.getReferenceById(store.id())));
+        }
+
+        // 점유 인덱스 미적재 시 매장별로 한 번만 DB 테이블 / 예약 조회
+        Set<Long> preparedStores = new HashSet<>();
+
+        List<ReservationBatchResult> results = new ArrayList<>(requests.size());
+        List<ReservationEntity> reservationEntities = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+
+            ReservationRequest request = requests.get(i);
+            StoreEntity storeEntity = stores.get(request.getStoreId());
+
+            if(storeEntity == null){
+                results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                        false, "존재하지 않는 매장 ID입니다."));
+                continue;
+            }
+
+            LocalDateTime startTime;
+            try{
+                startTime = request.getReservationTime();
+            } catch(RuntimeException e){
+                results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                        false, "예약 시간 형식이 올바르지 않습니다."));
+                continue;
+            }
+
+            if(!ReservationEntity.isValidReservation(startTime, now)){
+                results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                        false, "예약 시간 과거는 예약 할 수 없습니다."));
+                continue;
+            }
+
+            int partySize;
+            try{
+                partySize = request.getPartySize();
+            } catch(RuntimeException e){
+                results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                        false, e.getMessage()));
+                continue;
+            }
+
+            if(preparedStores.add(storeEntity.getId())){
+                prepareStore(storeEntity.getId(), requests);
+            }
+
+            Long tableId = slotAllocator.allocatePrepared(storeEntity.getId(), startTime, partySize);
+
+            if(tableId == null){
+                results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                        false, "해당 시간에는 예약 가능한 테이블이 없습니다."));
+                continue;
+            }
+
+            TransactionHooks.afterRollback(() -> slotAllocator.release(storeEntity.getId(), tableId, startTime));
+
+            reservationEntities.add(ReservationEntity.builder()
+                    .member(memberEntity)
+                    .store(storeEntity)
+                    .table(toTableReference(tableId))
+                    .partySize(partySize)
+                    .reservationTime(startTime)
+                    .arrivalStatus(ArrivalStatus.WAITING)
+                    .status(ReservationStatus.PENDING)
+                    .build());
+
+            results.add(new ReservationBatchResult(i, request.getStoreId(), request.getReservationTimeText(),
+                    true, "예약이 성공적으로 완료 되었습니다."));
+        }
+
+        reservationRepository.saveAll(reservationEntities);
+
+        return results;
+    }
+
+    /*
+    * 일괄 요청 중 해당 매장 요청 시간 범위의 테이블 구성과 DB 예약을 점유 인덱스에 반영
+    * */
+    private void prepareStore(Long storeId, List<ReservationRequest> requests) {
+
+        List<LocalDateTime> times = new ArrayList<>();
+        for (ReservationRequest request : requests) {
+            if(storeId.equals(request.getStoreId())){
+                try{
+                    times.add(request.getReservationTime());
+                } catch(RuntimeException ignored){
+                    // 형식 오류 건은 결과에서 실패 처리
+                }
+            }
+        }
+
+        LocalDateTime from = times.stream().min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime to = times.stream().max(LocalDateTime::compareTo).orElseThrow();
+
+        slotAllocator.prepare(storeId, from, to);
+    }
+
+    /*
+    * 테이블 미등록 매장(STORE_LANE) 예약은 테이블 없이 저장
+    * */
+    private StoreTableEntity toTableReference(Long tableId) {
+        return tableId == ReservationSlotIndex.STORE_LANE ? null : storeTableRepository.getReferenceById(tableId);
+    }
+
+    /**
+     * 예약 가능 시간 조회 기능
+     * 기간 내 정시 기준 예약 가능한 시간 목록 (지난 시간 제외)
+     * @param from 시작 일자 yyyy-MM-dd (포함)
+     * @param to 종료 일자 yyyy-MM-dd (포함)
+     * @param partySize 인원 수
+     */
+    public AvailabilityResponse getAvailability(Long storeId, LocalDate from, LocalDate to, int partySize) {
+
+        if(!storeCache.exists(storeId)){
+            throw new RuntimeException("존재하지 않는 매장 ID입니다.");
+        }
+
+        if(partySize < 1){
+            throw new RuntimeException("예약 인원은 1명 이상이어야 합니다.");
+        }
+
+        if(to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= AVAILABILITY_MAX_DAYS){
+            throw new ReservationTimeException("조회 기간은 최대 " + AVAILABILITY_MAX_DAYS + "일 입니다.");
+        }
+
+        LocalDateTime nextHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime start = from.atStartOfDay().isBefore(nextHour) ? nextHour : from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<LocalDateTime> freeSlots = start.isBefore(end)
+                ? slotAllocator.findFreeSlots(storeId, start, end, AVAILABILITY_STEP_MINUTES, partySize)
+                : List.of();
+
+        List<String> availableTimes = freeSlots.stream()
+                .map(TIME_FORMATTER::format)
+                .toList();
+
+        return new AvailabilityResponse(storeId, availableTimes);
+    }
+
+    /**
+     * 예약 이력 조회 기능
+     * 운영 테이블과 보관 테이블을 각각 id 내림차순으로 조회하여 병합
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public ReservationHistoryResponse getHistory(Long memberId, Long cursor, int size) {
+
+        int pageSize = Math.max(1, Math.min(size, HISTORY_MAX_SIZE));
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        PageRequest page = PageRequest.ofSize(pageSize);
+
+        List<ReservationHistoryView> merged = new ArrayList<>(
+                reservationRepository.findHistory(memberId, before, page));
+        merged.addAll(reservationArchiveRepository.findByMemberIdAndIdLessThanOrderByIdDesc(memberId, before, page));
+        merged.sort(Comparator.comparing(ReservationHistoryView::getId).reversed());
+
+        List<ReservationResponse> reservations = merged.stream()
+                .limit(pageSize)
+                .map(view -> new ReservationResponse(view.getId(),
+                        view.getStoreId(),
+                        TIME_FORMATTER.format(view.getReservationTime()),
+                        view.getStatus(),
+                        view.getArrivalStatus()))
+                .toList();
+
+        Long nextCursor = reservations.size() < pageSize ? null : reservations.get(reservations.size() - 1).getId();
+
+        return new ReservationHistoryResponse(reservations, nextCursor);
+    }
+
     /*
     * 예약 10분전이 확인이 된다면
     * */
@@ -85,6 +327,13 @@ public class ReservationService {
 
             reservationRepository.save(reservationEntity);
 
+            // 승인된 예약의 방문 완료 시 리뷰 작성 자격 반영
+            if(reservationEntity.getStatus() == ReservationStatus.CONFIRMED){
+                Long memberId = reservationEntity.getMember().getId();
+                Long storeId = reservationEntity.getStore().getId();
+                TransactionHooks.afterCommit(() -> reviewEligibilityIndex.add(memberId, storeId));
+            }
+
         } else {
             throw new ReservationTimeException("예약 10분 전에 도착하여야 합니다..\n 예약 시간 초과입니다.");
         }
@@ -94,14 +343,164 @@ public class ReservationService {
     /*
      승인/예약 취소 기능
      */
-    public void checkApproval(CheckApprovalRequest request) {
+    @Transactional
+    public void checkApproval(CheckApprovalRequest request, Long managerId) {
+
+        ApprovalResult result = approveReservations(List.of(request), managerId).get(0);
+
+        if(!result.isSuccess()){
+            throw new RuntimeException(result.getMessage());
+        }
+    }
+
+    /**
+     * 승인 / 거절 일괄 처리 기능
+     * 대상 예약과 매장 매니저를 한 번에 조회하고, 상태별로 한 번의 UPDATE 로 반영
+     * @param requests 예약 ID 별 처리 상태 (CONFIRMED / REJECTED)
+     * @param managerId 요청한 매니저 ID (담당 매장의 예약만 처리 가능)
+     * @return 요청 순서대로 건별 처리 결과
+     */
+    @Transactional
+    public List<ApprovalResult> approveReservations(List<CheckApprovalRequest> requests, Long managerId) {
+
+        if(requests == null || requests.isEmpty() || requests.size() > BATCH_MAX_SIZE){
+            throw new RuntimeException("승인 / 거절은 1건 이상 " + BATCH_MAX_SIZE + "건 이하로 요청해야 합니다.");
+        }
+
+        Set<Long> ids = requests.stream()
+                .map(CheckApprovalRequest::getReservationId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // 상태는 행 잠금 읽기 결과로 판단 (동시 거절 / 취소가 점유를 두 번 해제하지 않도록)
+        Map<Long, ReservationStatusView> current = ids.isEmpty() ? Map.of()
+                : reservationRepository.lockStatuses(ids).stream()
+                .collect(Collectors.toMap(ReservationStatusView::getId, Function.identity()));
+
+        Map<Long, ReservationApprovalView> reservations = current.isEmpty() ? Map.of()
+                : reservationRepository.findApprovalViews(current.keySet()).stream()
+                .collect(Collectors.toMap(ReservationApprovalView::getId, Function.identity()));
+
+        Map<ReservationStatus, List<Long>> idsByStatus = new EnumMap<>(ReservationStatus.class);
+        List<ReservationApprovalView> rejected = new ArrayList<>();
+        List<ReservationApprovalView> eligible = new ArrayList<>();
+        List<ReservationApprovalView> revoked = new ArrayList<>();
+        Set<Long> processed = new HashSet<>();
+        List<ApprovalResult> results = new ArrayList<>(requests.size());
+
+        for (CheckApprovalRequest request : requests) {
+
+            Long reservationId = request.getReservationId();
+            ReservationStatus status = request.getStatus();
+            ReservationApprovalView reservation = reservations.get(reservationId);
+            ReservationStatusView locked = current.get(reservationId);
+
+            if(reservation == null || locked == null){
+                results.add(new ApprovalResult(reservationId, false, "존재하지 않는 예약 ID입니다."));
+            } else if(!processed.add(reservationId)){
+                results.add(new ApprovalResult(reservationId, false, "중복된 예약 ID입니다."));
+            } else if(status != ReservationStatus.CONFIRMED && status != ReservationStatus.REJECTED){
+                results.add(new ApprovalResult(reservationId, false, "처리 상태는 CONFIRMED 또는 REJECTED 만 가능합니다."));
+            } else if(!managerId.equals(reservation.getManagerId())){
+                results.add(new ApprovalResult(reservationId, false, "담당 매장의 예약만 처리할 수 있습니다."));
+            } else if(locked.getStatus().isClosed()){
+                results.add(new ApprovalResult(reservationId, false, "취소 또는 거절된 예약입니다."));
+            } else {
+                idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(reservationId);
+                if(status == ReservationStatus.REJECTED){
+                    rejected.add(reservation);
+                }
+                if(locked.getArrivalStatus() == ArrivalStatus.ARRIVED){
+                    if(status == ReservationStatus.CONFIRMED){
+                        eligible.add(reservation);
+                    } else if(locked.getStatus() == ReservationStatus.CONFIRMED){
+                        revoked.add(reservation);
+                    }
+                }
+                results.add(new ApprovalResult(reservationId, true, "승인 / 예약 거절을 완료하였습니다."));
+            }
+        }
+
+        // 잠근 행만 변경하므로 건수가 다르면 상태가 어긋난 것 (롤백하여 점유 해제 / 자격 반영을 하지 않음)
+        idsByStatus.forEach((status, statusIds) -> {
+            if(reservationRepository.updateStatus(statusIds, status) != statusIds.size()){
+                throw new RuntimeException("예약 상태가 변경되었습니다. 다시 시도해 주세요.");
+            }
+        });
+
+        // 거절된 예약의 DB 점유 기록은 같은 트랜잭션에서 삭제하고, 커밋 후 인덱스 점유 해제 및 대기열 승격
+        rejected.forEach(reservation ->
+                slotAllocator.unclaim(reservation.getStoreId(), reservation.getTableId(), reservation.getReservationTime()));
+        TransactionHooks.afterCommit(() -> rejected.forEach(reservation ->
+                releaseSlot(reservation.getStoreId(), reservation.getTableId(), reservation.getReservationTime())));
+
+        // 이미 방문한 예약의 승인 / 승인 후 거절은 커밋 후 리뷰 작성 자격 반영
+        TransactionHooks.afterCommit(() -> {
+            eligible.forEach(reservation ->
+                    reviewEligibilityIndex.add(reservation.getMemberId(), reservation.getStoreId()));
+            revoked.forEach(reservation ->
+                    revalidateEligibility(reservation.getMemberId(), reservation.getStoreId()));
+        });
+
+        return results;
+    }
+
+    /**
+     * 예약 취소 기능 (예약한 회원만 취소 가능)
+     */
+    @Transactional
+    public void cancelReservation(Long reservationId, Long memberId) {
 
-        ReservationEntity reservationEntity = reservationRepository.findById(request.getReservationId())
+        // 동시 취소 / 거절과 직렬화 (닫힌 상태 확인 후 점유 해제가 한 번만 일어나도록)
+        ReservationEntity reservationEntity = reservationRepository.findForUpdate(reservationId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 예약 ID입니다."));
 
-        reservationEntity.setStatus(ReservationStatus.CONFIRMED);
+        if(!reservationEntity.getMember().getId().equals(memberId)){
+            throw new RuntimeException("본인의 예약만 취소할 수 있습니다.");
+        }
 
+        if(reservationEntity.getStatus().isClosed()){
+            throw new RuntimeException("이미 취소 또는 거절된 예약입니다.");
+        }
+
+        boolean wasEligible = reservationEntity.getStatus() == ReservationStatus.CONFIRMED
+                && reservationEntity.getArrivalStatus() == ArrivalStatus.ARRIVED;
+
+        reservationEntity.setStatus(ReservationStatus.CANCELLED);
         reservationRepository.save(reservationEntity);
 
+        Long storeId = reservationEntity.getStore().getId();
+        Long tableId = reservationEntity.getTable() == null ? null : reservationEntity.getTable().getId();
+        LocalDateTime reservationTime = reservationEntity.getReservationTime();
+
+        slotAllocator.unclaim(storeId, tableId, reservationTime);
+
+        TransactionHooks.afterCommit(() -> {
+            releaseSlot(storeId, tableId, reservationTime);
+            if(wasEligible){
+                revalidateEligibility(memberId, storeId);
+            }
+        });
+    }
+
+    /*
+    * 방문 완료 + 승인 예약이 더 남아 있지 않으면 리뷰 작성 자격 제거 (보관된 예약 포함)
+    * */
+    private void revalidateEligibility(Long memberId, Long storeId) {
+
+        reviewEligibilityIndex.revalidate(memberId, storeId, () ->
+                reservationRepository.existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(
+                        storeId, memberId, ArrivalStatus.ARRIVED, ReservationStatus.CONFIRMED)
+                || reservationArchiveRepository.existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(
+                        storeId, memberId, ArrivalStatus.ARRIVED, ReservationStatus.CONFIRMED));
+    }
+
+    /*
+    * 테이블 인덱스 점유 해제 후 대기열 맨 앞 회원 승격
+    * */
+    private void releaseSlot(Long storeId, Long tableId, LocalDateTime reservationTime) {
+
+        slotAllocator.release(storeId, tableId, reservationTime);
+        waitlistService.promote(storeId, reservationTime);
     }
 }
@@ -1,47 +1,84 @@
 package com.zerobase.tablereservationservice.service;
 
+import com.zerobase.tablereservationservice.cache.ReviewOwner;
+import com.zerobase.tablereservationservice.cache.ReviewOwnershipResolver;
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.cache.StoreSnapshot;
 import com.zerobase.tablereservationservice.except.RegisterReviewException;
 import com.zerobase.tablereservationservice.except.ReviewDeleteException;
 import com.zerobase.tablereservationservice.except.ReviewUpdateException;
+import com.zerobase.tablereservationservice.index.ReviewEligibilityIndex;
+import com.zerobase.tablereservationservice.model.ReviewPageResponse;
+import com.zerobase.tablereservationservice.model.ReviewPreviewResponse;
 import com.zerobase.tablereservationservice.model.ReviewRequest;
+import com.zerobase.tablereservationservice.model.ReviewResponse;
 import com.zerobase.tablereservationservice.model.ReviewUpdateRequest;
 import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
 import com.zerobase.tablereservationservice.persist.ReservationRepository;
 import com.zerobase.tablereservationservice.persist.ReviewRepository;
+import com.zerobase.tablereservationservice.persist.StoreRatingRepository;
 import com.zerobase.tablereservationservice.persist.StoreRepository;
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
 import com.zerobase.tablereservationservice.persist.entity.ReviewEntity;
-import com.zerobase.tablereservationservice.persist.entity.StoreEntity;
+import com.zerobase.tablereservationservice.persist.projection.ReviewDetailView;
 import com.zerobase.tablereservationservice.type.ArrivalStatus;
 import com.zerobase.tablereservationservice.type.ReservationStatus;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class ReviewService {
 
+    private static final int LIST_MAX_SIZE = 50;
+    private static final int PREVIEW_LENGTH = 100;
+
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
     private final ReviewRepository reviewRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final StoreCache storeCache;
+    private final StoreRatingRepository storeRatingRepository;
+    private final ReviewEligibilityIndex reviewEligibilityIndex;
+    private final ReviewOwnershipResolver reviewOwnershipResolver;
 
     // 해당 가게에 예약과 ,사용을 한 사람만이 리뷰 작성 가능
+    @Transactional
     public void registerReview(ReviewRequest reviewRequest , Long memberId) {
 
+        if(reviewRequest.getRating() == null){
+            throw new RuntimeException("별점은 필수 입니다.");
+        }
+        validateRating(reviewRequest.getRating());
+
         MemberEntity memberEntity = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("존재 하지 않는 회원 ID입니다."));
 
-        StoreEntity storeEntity = storeRepository.findById(reviewRequest.getStoreId())
+        StoreSnapshot store = storeCache.find(reviewRequest.getStoreId())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID 입니다."));
 
-        boolean isRegisterReview = reservationRepository.existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(
-                storeEntity.getId(),
-                memberEntity.getId(),
-                ArrivalStatus.ARRIVED,
-                ReservationStatus.CONFIRMED);
+        // 자격 인덱스 적재 후에는 해시 조회 한 번, 그 전에는 보관된 예약 이력까지 DB 조회
+        boolean isRegisterReview = reviewEligibilityIndex.canAnswer(memberEntity.getId(), store.id())
+                ? reviewEligibilityIndex.contains(memberEntity.getId(), store.id())
+                : (reservationRepository.existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(
+                        store.id(),
+                        memberEntity.getId(),
+                        ArrivalStatus.ARRIVED,
+                        ReservationStatus.CONFIRMED)
+                || reservationArchiveRepository.existsByStoreIdAndMemberIdAndArrivalStatusAndStatus(
+                        store.id(),
+                        memberEntity.getId(),
+                        ArrivalStatus.ARRIVED,
+                        ReservationStatus.CONFIRMED));
 
 
         if(!isRegisterReview) {
@@ -49,55 +86,134 @@ public class ReviewService {
         } else {
             ReviewEntity reviewEntity = ReviewEntity.builder()
                                         .member(memberEntity)
-                                        .store(storeEntity)
+                                        .store(storeRepository.getReferenceById(store.id()))
                                         .review(reviewRequest.getReview())
+                                        .rating(reviewRequest.getRating())
                                         .build();
 
             reviewRepository.save(reviewEntity);
+            applyRating(store.id(), 1, null, reviewEntity.getRating());
         }
     }
 
-    //리뷰 수정 기능 (리뷰 작성자만 수정 할 수 있도록)
-
+    //리뷰 수정 기능 (리뷰 작성자만 수정 할 수 있도록, 별점을 생략하면 기존 별점 유지)
+    @Transactional
     public void updateReview(ReviewUpdateRequest reviewRequest, Long memberId) {
 
-        MemberEntity memberEntity = memberRepository.findById(memberId)
-                .orElseThrow(() -> new RuntimeException("존재 하지 않는 회원 ID입니다."));
+        validateRating(reviewRequest.getRating());
 
-        StoreEntity storeEntity = storeRepository.findById(reviewRequest.getStoreId())
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID 입니다."));
+        ReviewOwner owner = reviewOwnershipResolver.find(reviewRequest.getId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 리뷰 ID 입니다."));
+
+        if(reviewRequest.getStoreId() != null && !reviewRequest.getStoreId().equals(owner.storeId())){
+            throw new RuntimeException("해당 매장의 리뷰가 아닙니다.");
+        }
 
+        if(!reviewOwnershipResolver.isAuthor(memberId, owner)){
+            throw new ReviewUpdateException("수정은 리뷰 작성자만 가능합니다.");
+        }
 
-        boolean isCreatedBy = reservationRepository.existsByMemberId(memberId);
+        ReviewEntity reviewEntity = reviewRepository.findForUpdate(owner.reviewId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 리뷰 ID 입니다."));
 
-        if(isCreatedBy){
-            ReviewEntity reviewEntity = reviewRepository.findById(reviewRequest.getId())
-                    .orElseThrow(() -> new RuntimeException("수정은 리뷰 작성자만 가능합니다."));
+        Integer previousRating = reviewEntity.getRating();
+        reviewEntity.setReview(reviewRequest.getReview());
+        if(reviewRequest.getRating() != null){
+            reviewEntity.setRating(reviewRequest.getRating());
+        }
 
-            reviewEntity.setReview(reviewRequest.getReview());
+        reviewRepository.save(reviewEntity);
 
-            reviewRepository.save(reviewEntity);
-        } else {
-            throw new ReviewUpdateException("수정은 리뷰 작성자만 가능합니다.");
+        if(!Objects.equals(previousRating, reviewEntity.getRating())){
+            applyRating(owner.storeId(), 0, previousRating, reviewEntity.getRating());
         }
     }
 
-    //리뷰 삭제 기능 (리뷰를 작성한 사람과, 매장 매니저만 삭제 할수 있도록)
-
+    //리뷰 삭제 기능 (리뷰를 작성한 사람과, 리뷰가 달린 매장의 매니저만 삭제 할수 있도록)
+    @Transactional
     public void deleteReview(Long id, Long memberId) {
 
-        boolean isCreatedBy = reviewRepository.existsByMemberId(memberId);
-        boolean isStoreManager = storeRepository.existsByManagerId(memberId);
+        ReviewOwner owner = reviewOwnershipResolver.find(id)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 리뷰 ID 입니다."));
+
+        if(!reviewOwnershipResolver.isAuthor(memberId, owner)
+                && !reviewOwnershipResolver.isStoreManager(memberId, owner)){
+            throw new ReviewDeleteException("삭제는 리뷰 작성자 또는 점장만 가능합니다.");
+        }
+
+        ReviewEntity reviewEntity = reviewRepository.findForUpdate(owner.reviewId())
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 리뷰 ID 입니다."));
 
-        ReviewEntity reviewEntity = reviewRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("삭제는 리뷰 작성자 또는 점장만 가능합니다."));
+        reviewRepository.delete(reviewEntity);
+        applyRating(owner.storeId(), -1, reviewEntity.getRating(), null);
+        reviewOwnershipResolver.evictAfterCommit(owner.reviewId());
+    }
 
-        if(isCreatedBy || isStoreManager){
+    /**
+     * 매장 리뷰 목록 조회 기능 (최신순, 본문은 PREVIEW_LENGTH 자까지만)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 LIST_MAX_SIZE)
+     */
+    public ReviewPageResponse getReviews(Long storeId, Long cursor, int size) {
 
-            reviewRepository.delete(reviewEntity);
+        if(!storeCache.exists(storeId)){
+            throw new RuntimeException("존재하지 않는 매장 ID 입니다.");
         }
-        if(!isCreatedBy && !isStoreManager){
-            throw new ReviewDeleteException("삭제는 리뷰 작성자 또는 점장만 가능합니다.");
+
+        int pageSize = Math.max(1, Math.min(size, LIST_MAX_SIZE));
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        List<ReviewPreviewResponse> reviews = reviewRepository.findPreviews(storeId, before, PREVIEW_LENGTH,
+                        PageRequest.ofSize(pageSize)).stream()
+                .map(view -> new ReviewPreviewResponse(view.getId(),
+                        view.getAuthor(),
+                        view.getRating(),
+                        view.getPreview(),
+                        view.getLength() != null && view.getLength() > PREVIEW_LENGTH))
+                .toList();
+
+        Long nextCursor = reviews.size() < pageSize ? null : reviews.get(reviews.size() - 1).getId();
+
+        return new ReviewPageResponse(reviews, nextCursor);
+    }
+
+    /*
+    * 리뷰 본문 조회 기능
+    * */
+    public ReviewResponse getReview(Long id) {
+
+        ReviewDetailView view = reviewRepository.findDetailById(id)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 리뷰 ID 입니다."));
+
+        return new ReviewResponse(view.getId(), view.getStoreId(), view.getAuthor(), view.getRating(), view.getReview());
+    }
+
+    private static void validateRating(Integer rating) {
+        if(rating != null && (rating < 1 || rating > 5)){
+            throw new RuntimeException("별점은 1 ~ 5 사이여야 합니다.");
+        }
+    }
+
+    /*
+    * 매장 리뷰 집계 증감 (리뷰 변경과 같은 트랜잭션)
+    * @param count 리뷰 수 증감
+    * @param removed 빠지는 별점 (없으면 null)
+    * @param added 더해지는 별점 (없으면 null)
+    * */
+    private void applyRating(Long storeId, long count, Integer removed, Integer added) {
+
+        long[] stars = new long[6];
+        long sum = 0;
+
+        if(removed != null){
+            stars[removed]--;
+            sum -= removed;
         }
+        if(added != null){
+            stars[added]++;
+            sum += added;
+        }
+
+        storeRatingRepository.applyDelta(storeId, count, sum, stars[1], stars[2], stars[3], stars[4], stars[5]);
     }
 }
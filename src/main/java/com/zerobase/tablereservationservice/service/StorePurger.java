@@ -0,0 +1,167 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.model.StorePurgeStatus;
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.ReviewRepository;
+import com.zerobase.tablereservationservice.persist.StorePurgeJobRepository;
+import com.zerobase.tablereservationservice.persist.StoreRatingRepository;
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.entity.StorePurgeJobEntity;
+import com.zerobase.tablereservationservice.type.PurgeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * 삭제된 매장 정리 작업
+ * 매장 삭제 시 등록된 작업을 순서대로 처리하며, 예약 / 보관 예약 / 리뷰를 DELETE ... LIMIT 청크 단위로 지우고
+ * 청크마다 삭제 건수를 같은 트랜잭션에 기록한다. 삭제는 멱등이므로 재기동 후 완료되지 않은 작업을 그대로 이어서 진행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorePurger {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final StorePurgeJobRepository storePurgeJobRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReviewRepository reviewRepository;
+    private final StoreTableRepository storeTableRepository;
+    private final StoreRepository storeRepository;
+    private final StoreRatingRepository storeRatingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${store.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${store.purge.pause-millis:100}")
+    private long pauseMillis;
+
+    @Scheduled(initialDelayString = "${store.purge.interval-millis:10000}",
+            fixedDelayString = "${store.purge.interval-millis:10000}")
+    public void purge() {
+
+        for (StorePurgeJobEntity job : storePurgeJobRepository.findByStatusNotOrderByIdAsc(PurgeStatus.DONE)) {
+            if (!purgeStore(job)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 진행 상태 조회
+     */
+    public StorePurgeStatus getStatus(Long storeId) {
+
+        StorePurgeJobEntity job = storePurgeJobRepository.findByStoreId(storeId)
+                .orElseThrow(() -> new RuntimeException("삭제 요청되지 않은 매장 ID입니다."));
+
+        return new StorePurgeStatus(job.getStoreId(),
+                job.getStatus(),
+                job.getReservationsDeleted(),
+                job.getArchivedReservationsDeleted(),
+                job.getReviewsDeleted(),
+                format(job.getRequestedAt()),
+                format(job.getStartedAt()),
+                format(job.getFinishedAt()),
+                job.getLastError());
+    }
+
+    /*
+    * 매장 하나 정리 (중단되면 false)
+    * */
+    private boolean purgeStore(StorePurgeJobEntity job) {
+
+        Long jobId = job.getId();
+        Long storeId = job.getStoreId();
+
+        try {
+            updateJob(jobId, j -> {
+                j.setStatus(PurgeStatus.RUNNING);
+                if (j.getStartedAt() == null) {
+                    j.setStartedAt(LocalDateTime.now());
+                }
+            });
+
+            long reservations = deleteInChunks(storeId, reservationRepository::deleteChunkByStoreId,
+                    count -> storePurgeJobRepository.addProgress(jobId, count, 0, 0));
+            long archived = deleteInChunks(storeId, reservationArchiveRepository::deleteChunkByStoreId,
+                    count -> storePurgeJobRepository.addProgress(jobId, 0, count, 0));
+            long reviews = deleteInChunks(storeId, reviewRepository::deleteChunkByStoreId,
+                    count -> storePurgeJobRepository.addProgress(jobId, 0, 0, count));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                storeTableRepository.deleteByStoreId(storeId);
+                storeRepository.purgeDeleted(storeId);
+                storeRatingRepository.deleteById(storeId);
+                storePurgeJobRepository.findById(jobId).ifPresent(j -> {
+                    j.setStatus(PurgeStatus.DONE);
+                    j.setFinishedAt(LocalDateTime.now());
+                    j.setLastError(null);
+                });
+            });
+
+            log.info("매장 정리 완료 : 매장 {}, 예약 {} 건, 보관 예약 {} 건, 리뷰 {} 건", storeId, reservations, archived, reviews);
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("매장 정리 중 오류 발생 : 매장 {}, {}", storeId, e.getMessage());
+            updateJob(jobId, j -> j.setLastError(e.getMessage()));
+            return true;
+        }
+    }
+
+    /*
+    * 삭제 건수가 청크 크기보다 작아질 때까지 반복 (청크마다 progress 로 삭제 건수 기록)
+    * */
+    private long deleteInChunks(Long storeId, ChunkDelete chunkDelete, IntConsumer progress)
+            throws InterruptedException {
+
+        long total = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                int count = chunkDelete.delete(storeId, batchSize);
+                progress.accept(count);
+                return count;
+            });
+
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+
+            if (count < batchSize) {
+                return total;
+            }
+            Thread.sleep(pauseMillis);
+        }
+    }
+
+    private void updateJob(Long jobId, Consumer<StorePurgeJobEntity> update) {
+        transactionTemplate.executeWithoutResult(status ->
+                storePurgeJobRepository.findById(jobId).ifPresent(update));
+    }
+
+    private static String format(LocalDateTime time) {
+        return time == null ? null : TIME_FORMATTER.format(time);
+    }
+
+    @FunctionalInterface
+    private interface ChunkDelete {
+        int delete(Long storeId, int limit);
+    }
+}
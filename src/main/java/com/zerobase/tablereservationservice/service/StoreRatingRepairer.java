@@ -0,0 +1,107 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.persist.ReviewRepository;
+import com.zerobase.tablereservationservice.persist.StoreRatingRepository;
+import com.zerobase.tablereservationservice.persist.entity.StoreRatingEntity;
+import com.zerobase.tablereservationservice.persist.projection.StoreRatingView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 리뷰 집계 보정 작업
+ * 리뷰 테이블에서 매장별 집계를 다시 계산해 저장된 집계와 다른 매장만 찾고,
+ * 해당 매장의 집계 행을 잠근 상태에서 한 번 더 계산하여 덮어쓴다. (보정 중 리뷰 증감은 잠금 해제까지 대기)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRatingRepairer {
+
+    private final ReviewRepository reviewRepository;
+    private final StoreRatingRepository storeRatingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelayString = "${store.rating.repair-millis:3600000}",
+            fixedDelayString = "${store.rating.repair-millis:3600000}")
+    public void repair() {
+
+        Map<Long, StoreRatingEntity> stored = new HashMap<>();
+        for (StoreRatingEntity rating : storeRatingRepository.findAll()) {
+            stored.put(rating.getStoreId(), rating);
+        }
+
+        Set<Long> mismatched = new HashSet<>();
+        for (StoreRatingView view : reviewRepository.aggregateRatings()) {
+            StoreRatingEntity rating = stored.remove(view.getStoreId());
+            if (rating == null || !matches(rating, view)) {
+                mismatched.add(view.getStoreId());
+            }
+        }
+        // 남은 집계 행은 리뷰가 없는 매장이므로 0 이어야 함
+        stored.values().stream()
+                .filter(rating -> !isEmpty(rating))
+                .forEach(rating -> mismatched.add(rating.getStoreId()));
+
+        int repaired = 0;
+        for (Long storeId : mismatched) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairStore(storeId)))) {
+                    repaired++;
+                }
+            } catch (Exception e) {
+                log.error("매장 리뷰 집계 보정 중 오류 발생 : 매장 {}, {}", storeId, e.getMessage());
+            }
+        }
+
+        if (repaired > 0) {
+            log.warn("매장 리뷰 집계 보정 : {} 개 매장", repaired);
+        }
+    }
+
+    /*
+    * 집계 행을 잠근 뒤 다시 계산하여 덮어쓰기 (변경되었으면 true)
+    * */
+    private boolean repairStore(Long storeId) {
+
+        // 행이 없으면 0 으로 생성한 뒤 잠금
+        storeRatingRepository.applyDelta(storeId, 0, 0, 0, 0, 0, 0, 0);
+        StoreRatingEntity rating = storeRatingRepository.findForUpdate(storeId)
+                .orElseThrow(() -> new IllegalStateException("리뷰 집계 행이 없습니다."));
+
+        StoreRatingView view = reviewRepository.aggregateRating(storeId).orElse(null);
+        if (view != null ? matches(rating, view) : isEmpty(rating)) {
+            return false;
+        }
+
+        rating.setReviewCount(view == null ? 0 : view.getReviewCount());
+        rating.setRatingSum(view == null ? 0 : view.getRatingSum());
+        rating.setStar1(view == null ? 0 : view.getStar1());
+        rating.setStar2(view == null ? 0 : view.getStar2());
+        rating.setStar3(view == null ? 0 : view.getStar3());
+        rating.setStar4(view == null ? 0 : view.getStar4());
+        rating.setStar5(view == null ? 0 : view.getStar5());
+        return true;
+    }
+
+    private static boolean isEmpty(StoreRatingEntity rating) {
+        return rating.getReviewCount() == 0 && rating.getRatingSum() == 0 && rating.getRatingCount() == 0;
+    }
+
+    private static boolean matches(StoreRatingEntity rating, StoreRatingView view) {
+        return rating.getReviewCount() == view.getReviewCount()
+                && rating.getRatingSum() == view.getRatingSum()
+                && rating.getStar1() == view.getStar1()
+                && rating.getStar2() == view.getStar2()
+                && rating.getStar3() == view.getStar3()
+                && rating.getStar4() == view.getStar4()
+                && rating.getStar5() == view.getStar5();
+    }
+}
@@ -1,31 +1,81 @@
 package com.zerobase.tablereservationservice.service;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.cache.StoreSnapshot;
 import com.zerobase.tablereservationservice.except.ManagerExistException;
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.index.StoreGeoIndex;
+import com.zerobase.tablereservationservice.index.StoreSearchIndex;
+import com.zerobase.tablereservationservice.index.StoreSuggestIndex;
 import com.zerobase.tablereservationservice.model.StoreRequest;
+import com.zerobase.tablereservationservice.model.StoreNearbyPageResponse;
+import com.zerobase.tablereservationservice.model.StoreDetailResponse;
+import com.zerobase.tablereservationservice.model.StoreNearbyResponse;
 import com.zerobase.tablereservationservice.model.StoreResponse;
+import com.zerobase.tablereservationservice.model.StoreSearchPageResponse;
+import com.zerobase.tablereservationservice.model.StoreSuggestResponse;
+import com.zerobase.tablereservationservice.model.StoreTableRequest;
+import com.zerobase.tablereservationservice.model.StoreTableResponse;
 import com.zerobase.tablereservationservice.model.StoreUpdateRequest;
 import com.zerobase.tablereservationservice.persist.MemberRepository;
 import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.StorePurgeJobRepository;
+import com.zerobase.tablereservationservice.persist.StoreRatingRepository;
 import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
 import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
 import com.zerobase.tablereservationservice.persist.entity.StoreEntity;
+import com.zerobase.tablereservationservice.persist.entity.StorePurgeJobEntity;
+import com.zerobase.tablereservationservice.persist.entity.StoreRatingEntity;
+import com.zerobase.tablereservationservice.persist.entity.StoreTableEntity;
+import com.zerobase.tablereservationservice.persist.projection.StoreRatedView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSearchHitView;
+import com.zerobase.tablereservationservice.persist.projection.StoreSearchView;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import com.zerobase.tablereservationservice.support.TtlLruCache;
+import com.zerobase.tablereservationservice.type.PurgeStatus;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @AllArgsConstructor
 public class StoreService {
 
+    private static final int NEARBY_MAX_RADIUS_METERS = 20_000;
+    private static final int NEARBY_MAX_SIZE = 50;
+    private static final int SEARCH_MAX_SIZE = 50;
+    private static final int STREAM_FLUSH_ROWS = 100;
+
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final StoreTableRepository storeTableRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreSuggestIndex storeSuggestIndex;
+    private final StoreGeoIndex storeGeoIndex;
+    private final ObjectMapper objectMapper;
+    private final StoreCache storeCache;
+    private final StorePurgeJobRepository storePurgeJobRepository;
+    private final StoreRatingRepository storeRatingRepository;
 
     /*
     * 매장 등록 기능
@@ -35,14 +85,19 @@ public class StoreService {
         MemberEntity member = memberRepository.findByUsername(manager)
                 .orElseThrow(() -> new RuntimeException("Manager Not found"));
 
+        validateLocation(storeRequest.getLatitude(), storeRequest.getLongitude());
+
         StoreEntity storeEntity = StoreEntity.builder()
                 .name(storeRequest.getName())
                 .address(storeRequest.getAddress())
                 .description(storeRequest.getDescription())
+                .latitude(storeRequest.getLatitude())
+                .longitude(storeRequest.getLongitude())
                 .manager(member)
                 .build();
 
         storeRepository.save(storeEntity);
+        TransactionHooks.afterCommit(() -> reindex(storeEntity));
     }
     /*
     * 매장 수정 기능
@@ -53,11 +108,17 @@ public class StoreService {
         StoreEntity storeEntity = storeRepository.findById(request.getId())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID 입니다."));
 
+        validateLocation(request.getLatitude(), request.getLongitude());
+
         storeEntity.setName(request.getName());
         storeEntity.setAddress(request.getAddress());
         storeEntity.setDescription(request.getDescription());
+        storeEntity.setLatitude(request.getLatitude());
+        storeEntity.setLongitude(request.getLongitude());
 
         storeRepository.save(storeEntity);
+        storeCache.evictAfterCommit(storeEntity.getId());
+        TransactionHooks.afterCommit(() -> reindex(storeEntity));
 
     }
 
@@ -81,12 +142,14 @@ public class StoreService {
             storeEntity.changeMember(memberEntity);
 
             storeRepository.save(storeEntity);
+            storeCache.evictAfterCommit(storeId);
         }
 
     }
 
     /*
     * 매장 삭제 기능
+    * 매장은 즉시 삭제 표시만 하고, 예약 / 리뷰 / 테이블은 정리 작업(StorePurger)이 청크 단위로 삭제
     * */
     @Transactional
     public void deleteStore(Long storeId) {
@@ -94,20 +157,336 @@ public class StoreService {
         StoreEntity storeEntity = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID입니다. "));
 
-        reservationRepository.deleteByStoreId(storeId);
-        storeRepository.delete(storeEntity);
+        storeEntity.setDeleted(true);
+        storeRepository.save(storeEntity);
+
+        storePurgeJobRepository.save(StorePurgeJobEntity.builder()
+                .storeId(storeId)
+                .status(PurgeStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build());
+
+        storeCache.evictAfterCommit(storeId);
+        TransactionHooks.afterCommit(() -> {
+            reservationSlotIndex.evictStore(storeId);
+            storeSearchIndex.remove(storeId);
+            storeSuggestIndex.remove(storeId);
+            storeGeoIndex.remove(storeId);
+        });
+    }
+
+    /*
+    * 매장 테이블 등록 기능 (담당 매니저만 가능)
+    * */
+    @Transactional
+    public StoreTableResponse registerTable(StoreTableRequest request, String manager) {
+
+        if(request.getSeats() <= 0){
+            throw new RuntimeException("좌석 수는 1 이상이어야 합니다.");
+        }
+
+        StoreSnapshot store = findManagedStore(request.getStoreId(), manager);
+
+        StoreTableEntity tableEntity = storeTableRepository.save(StoreTableEntity.builder()
+                .store(storeRepository.getReferenceById(store.id()))
+                .name(request.getName())
+                .seats(request.getSeats())
+                .build());
+
+        Long storeId = store.id();
+        Long tableId = tableEntity.getId();
+        int seats = tableEntity.getSeats();
+
+        // 테이블 구성이 아직 적재되지 않은 매장은 첫 배정 시 DB 에서 전체를 적재
+        TransactionHooks.afterCommit(() -> {
+            if(reservationSlotIndex.isInventoryLoaded(storeId)){
+                reservationSlotIndex.addTables(storeId, Map.of(tableId, seats));
+            }
+        });
+
+        return new StoreTableResponse(tableId, tableEntity.getName(), seats);
+    }
+
+    /*
+    * 매장 테이블 삭제 기능 (이후 예약이 남아 있는 테이블은 삭제 불가)
+    * */
+    @Transactional
+    public void deleteTable(Long tableId, String manager) {
+
+        StoreTableEntity tableEntity = storeTableRepository.findById(tableId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 테이블 ID입니다."));
+
+        Long storeId = findManagedStore(tableEntity.getStore().getId(), manager).id();
+        int seats = tableEntity.getSeats();
+        LocalDateTime from = LocalDateTime.now().minusMinutes(ReservationSlotIndex.RESERVATION_MINUTES);
+
+        // DB 확인 전에 배정 대상에서 먼저 제외 (아직 커밋되지 않은 배정도 인덱스 점유로 확인), 롤백되면 복구
+        if(!reservationSlotIndex.withdrawTable(storeId, tableId, from)){
+            throw new RuntimeException("예약이 남아 있는 테이블은 삭제할 수 없습니다.");
+        }
+        TransactionHooks.afterRollback(() -> reservationSlotIndex.restoreTable(storeId, tableId, seats));
+
+        if(reservationRepository.existsUpcomingByTableId(tableId, from)){
+            throw new RuntimeException("예약이 남아 있는 테이블은 삭제할 수 없습니다.");
+        }
+
+        reservationRepository.detachTable(tableId);
+        storeTableRepository.deleteById(tableId);
+        TransactionHooks.afterCommit(() -> reservationSlotIndex.removeTable(storeId, tableId));
+    }
+
+    /*
+    * 매장 테이블 목록 조회 기능 (좌석 수 오름차순)
+    * */
+    public List<StoreTableResponse> getTables(Long storeId) {
+
+        return storeTableRepository.findByStoreIdOrderBySeatsAsc(storeId).stream()
+                .map(table -> new StoreTableResponse(table.getId(), table.getName(), table.getSeats()))
+                .collect(Collectors.toList());
+    }
+
+    private StoreSnapshot findManagedStore(Long storeId, String manager) {
+
+        StoreSnapshot store = storeCache.find(storeId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID입니다."));
+
+        if(!Objects.equals(store.managerUsername(), manager)){
+            throw new RuntimeException("담당 매장의 테이블만 관리할 수 있습니다.");
+        }
+        return store;
+    }
+
+    /*
+    * 매장 상세 조회 기능 (리뷰 수 / 평균 별점 / 별점 분포는 집계 행에서 조회)
+    * */
+    public StoreDetailResponse getStoreDetail(Long storeId) {
+
+        StoreSnapshot store = storeCache.find(storeId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 매장 ID입니다."));
+
+        StoreRatingEntity rating = storeRatingRepository.findById(storeId)
+                .orElseGet(() -> StoreRatingEntity.builder().storeId(storeId).build());
+
+        return new StoreDetailResponse(store.id(), store.name(), store.address(), store.description(),
+                rating.getReviewCount(),
+                averageRating(rating.getRatingSum(), rating.getRatingCount()),
+                List.of(rating.getStar1(), rating.getStar2(), rating.getStar3(), rating.getStar4(), rating.getStar5()));
+    }
+
+    /*
+    * 매장 캐시 통계
+    * */
+    public TtlLruCache.Stats getCacheStats() {
+        return storeCache.stats();
     }
 
     /**
-     * 매장 검색 기능
+     * 매장 검색 기능 (keyset 페이지)
+     * 검색 인덱스 적재 전에는 DB 에서 같은 순위 / 커서 조건으로 조회
      * @param name 매장 이름
-     * @return StoreResponse
+     * @param cursor 이전 페이지의 nextCursor "순위-매장ID" (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 SEARCH_MAX_SIZE)
+     * @return 이름 일치 > 접두 일치 > 부분 일치, 매장 ID 순
      */
-    public List<StoreResponse> searchStores(String name) {
-        List<StoreEntity> storeEntities = storeRepository.findByNameContainingIgnoreCase(name);
+    public StoreSearchPageResponse searchStores(String name, String cursor, int size) {
+
+        int pageSize = Math.max(1, Math.min(size, SEARCH_MAX_SIZE));
+        int afterTier = -1;
+        long afterId = 0;
+
+        if(cursor != null && !cursor.isBlank()){
+            String[] parts = cursor.split("-", 2);
+            try{
+                afterTier = Integer.parseInt(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch(RuntimeException e){
+                throw new RuntimeException("올바르지 않은 커서입니다.");
+            }
+        }
+
+        List<StoreResponse> stores = new ArrayList<>(pageSize);
+        String lastKey = null;
+
+        if(storeSearchIndex.isReady()){
+            List<StoreSearchIndex.Hit> hits = storeSearchIndex.search(name, afterTier, afterId, pageSize);
+
+            // 페이지의 매장 집계를 한 번에 조회
+            Map<Long, StoreRatingEntity> ratings = storeRatingRepository.findAllById(
+                            hits.stream().map(hit -> hit.document().id()).collect(Collectors.toList())).stream()
+                    .collect(Collectors.toMap(StoreRatingEntity::getStoreId, rating -> rating));
+
+            for (StoreSearchIndex.Hit hit : hits) {
+                stores.add(toResponse(hit.document(), ratings.get(hit.document().id())));
+                lastKey = hit.tier() + "-" + hit.document().id();
+            }
+        } else {
+            String normalized = StoreSearchIndex.normalize(name);
+            for (StoreSearchHitView view : storeRepository.searchByName(normalized, escapeLike(normalized),
+                    afterTier, afterId, PageRequest.ofSize(pageSize))) {
+                stores.add(toResponse(view));
+                lastKey = view.getTier() + "-" + view.getId();
+            }
+        }
 
-        return storeEntities.stream()
-                .map(store -> new StoreResponse(store.getId(),store.getName(),store.getAddress(),store.getDescription()))
+        return new StoreSearchPageResponse(stores, stores.size() == pageSize ? lastKey : null);
+    }
+
+    /**
+     * 매장 검색 결과 전체를 NDJSON 으로 기록 (매장 ID 순)
+     * DB 커서에서 읽는 즉시 한 줄씩 기록하므로 결과 건수와 무관하게 메모리 사용량이 일정
+     */
+    @Transactional(readOnly = true)
+    public void streamStores(String name, OutputStream out) throws IOException {
+
+        try(Stream<StoreRatedView> rows = storeRepository.streamByName(escapeLike(StoreSearchIndex.normalize(name)))){
+            Iterator<StoreRatedView> iterator = rows.iterator();
+            int written = 0;
+
+            while(iterator.hasNext()){
+                out.write(objectMapper.writeValueAsBytes(toResponse(iterator.next())));
+                out.write('\n');
+
+                if(++written % STREAM_FLUSH_ROWS == 0){
+                    out.flush();
+                }
+            }
+            out.flush();
+        }
+    }
+
+    /*
+    * LIKE 특수 문자 이스케이프 (ESCAPE '!')
+    * */
+    private static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 매장 이름 자동완성 기능
+     * 접두어로 시작하는 매장 중 예약 수가 많은 순 (자동완성 인덱스 적재 전에는 DB 에서 ID 순으로 조회)
+     * @param prefix 입력 중인 매장 이름
+     * @param size 최대 StoreSuggestIndex.TOP_K
+     */
+    public List<StoreSuggestResponse> suggestStores(String prefix, int size) {
+
+        int limit = Math.max(1, Math.min(size, StoreSuggestIndex.TOP_K));
+
+        if(storeSuggestIndex.isReady()){
+            return storeSuggestIndex.suggest(prefix, limit).stream()
+                    .map(suggestion -> new StoreSuggestResponse(suggestion.storeId(), suggestion.name()))
+                    .collect(Collectors.toList());
+        }
+
+        // 입력한 % / _ 가 와일드카드로 동작하지 않도록 이스케이프
+        String escaped = escapeLike(StoreSearchIndex.normalize(prefix));
+        return storeRepository.findByNamePrefix(escaped, PageRequest.ofSize(limit)).stream()
+                .map(store -> new StoreSuggestResponse(store.getId(), store.getName()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 주변 매장 조회 기능 (거리 오름차순)
+     * 위치 인덱스 적재 전에는 반경을 감싸는 범위를 DB 에서 조회하여 거리 계산
+     * @param radius 반경 (m, 최대 NEARBY_MAX_RADIUS_METERS)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (최대 NEARBY_MAX_SIZE)
+     */
+    public StoreNearbyPageResponse findNearbyStores(double lat, double lng, int radius, int page, int size) {
+
+        validateLocation(lat, lng);
+
+        if(radius <= 0 || radius > NEARBY_MAX_RADIUS_METERS){
+            throw new RuntimeException("반경은 1m 이상 " + NEARBY_MAX_RADIUS_METERS + "m 이하로 요청해야 합니다.");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, NEARBY_MAX_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        List<StoreGeoIndex.Nearby> nearby;
+
+        if(storeGeoIndex.isReady()){
+            nearby = storeGeoIndex.findWithin(lat, lng, radius);
+        } else {
+            // 날짜 변경선을 넘으면 두 범위로 나누어 조회
+            nearby = StoreGeoIndex.boundingBoxes(lat, lng, radius).stream()
+                    .flatMap(box -> storeRepository.findByLatitudeBetweenAndLongitudeBetween(box[0], box[1], box[2], box[3]).stream())
+                    .map(StoreService::toGeoEntry)
+                    .map(entry -> new StoreGeoIndex.Nearby(entry,
+                            StoreGeoIndex.distanceMeters(lat, lng, entry.latitude(), entry.longitude())))
+                    .filter(candidate -> candidate.distanceMeters() <= radius)
+                    .sorted(Comparator.comparingDouble(StoreGeoIndex.Nearby::distanceMeters)
+                            .thenComparing(candidate -> candidate.entry().id()))
+                    .collect(Collectors.toList());
+        }
+
+        long from = (long) pageNumber * pageSize;
+        List<StoreNearbyResponse> stores = nearby.stream()
+                .skip(from)
+                .limit(pageSize)
+                .map(candidate -> new StoreNearbyResponse(candidate.entry().id(),
+                        candidate.entry().name(),
+                        candidate.entry().address(),
+                        candidate.entry().latitude(),
+                        candidate.entry().longitude(),
+                        Math.round(candidate.distanceMeters())))
+                .collect(Collectors.toList());
+
+        Integer nextPage = from + pageSize < nearby.size() ? pageNumber + 1 : null;
+
+        return new StoreNearbyPageResponse(stores, nearby.size(), nextPage);
+    }
+
+    /*
+    * 위도 / 경도는 함께 입력하거나 함께 생략
+    * */
+    private static void validateLocation(Double latitude, Double longitude) {
+
+        if(latitude == null && longitude == null){
+            return;
+        }
+        if(latitude == null || longitude == null){
+            throw new RuntimeException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if(latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180){
+            throw new RuntimeException("위도는 -90 ~ 90, 경도는 -180 ~ 180 범위여야 합니다.");
+        }
+    }
+
+    /*
+    * 커밋 후 검색 / 자동완성 / 위치 인덱스 반영
+    * */
+    private void reindex(StoreEntity store) {
+        storeSearchIndex.put(toDocument(store));
+        storeSuggestIndex.put(store.getId(), store.getName());
+        storeGeoIndex.put(new StoreGeoIndex.GeoEntry(store.getId(), store.getName(), store.getAddress(),
+                store.getLatitude(), store.getLongitude()));
+    }
+
+    private static StoreGeoIndex.GeoEntry toGeoEntry(StoreSearchView store) {
+        return new StoreGeoIndex.GeoEntry(store.getId(), store.getName(), store.getAddress(),
+                store.getLatitude(), store.getLongitude());
+    }
+
+    private static StoreSearchIndex.StoreDocument toDocument(StoreEntity store) {
+        return new StoreSearchIndex.StoreDocument(store.getId(), store.getName(), store.getAddress(), store.getDescription());
+    }
+
+    private static StoreResponse toResponse(StoreSearchIndex.StoreDocument document, StoreRatingEntity rating) {
+        return rating == null
+                ? new StoreResponse(document.id(), document.name(), document.address(), document.description(), 0, null)
+                : new StoreResponse(document.id(), document.name(), document.address(), document.description(),
+                        rating.getReviewCount(), averageRating(rating.getRatingSum(), rating.getRatingCount()));
+    }
+
+    private static StoreResponse toResponse(StoreRatedView view) {
+        return new StoreResponse(view.getId(), view.getName(), view.getAddress(), view.getDescription(),
+                view.getReviewCount(), averageRating(view.getRatingSum(), view.getRatingCount()));
+    }
+
+    /*
+    * 평균 별점 (소수 둘째 자리, 별점 리뷰가 없으면 null)
+    * */
+    private static Double averageRating(long ratingSum, long ratingCount) {
+        return ratingCount == 0 ? null : Math.round(ratingSum * 100.0 / ratingCount) / 100.0;
+    }
 }
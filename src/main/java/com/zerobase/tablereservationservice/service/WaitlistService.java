@@ -0,0 +1,253 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.except.ReservationTimeException;
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.index.SlotAllocator;
+import com.zerobase.tablereservationservice.model.ReservationRequest;
+import com.zerobase.tablereservationservice.model.WaitlistResponse;
+import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.entity.ReservationEntity;
+import com.zerobase.tablereservationservice.support.TransactionHooks;
+import com.zerobase.tablereservationservice.type.ArrivalStatus;
+import com.zerobase.tablereservationservice.type.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매장 / 예약 시간별 대기열 기능
+ * 대기열은 lock-free 큐(ConcurrentLinkedDeque)로 관리하며,
+ * 해당 시간의 예약이 취소 / 거절되면 대기열 맨 앞 회원을 예약으로 자동 승격한다.
+ * 대기열은 DB 에 저장하지 않는 노드 메모리 상태이므로 재시작하면 사라지고, 등록한 노드에서 일어난 취소 / 거절로만 승격된다.
+ */
+@Slf4j
+@Service
+public class WaitlistService {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ReservationRepository reservationRepository;
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+    private final StoreTableRepository storeTableRepository;
+    private final SlotAllocator slotAllocator;
+    private final StoreCache storeCache;
+    private final TransactionTemplate requiresNew;
+
+    private final Map<SlotKey, SlotQueue> queues = new ConcurrentHashMap<>();
+
+    public WaitlistService(ReservationRepository reservationRepository,
+                           MemberRepository memberRepository,
+                           StoreRepository storeRepository,
+                           StoreTableRepository storeTableRepository,
+                           SlotAllocator slotAllocator,
+                           StoreCache storeCache,
+                           PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.memberRepository = memberRepository;
+        this.storeRepository = storeRepository;
+        this.storeTableRepository = storeTableRepository;
+        this.slotAllocator = slotAllocator;
+        this.storeCache = storeCache;
+
+        // 취소 / 거절 트랜잭션 커밋 이후 호출되므로 별도 트랜잭션으로 승격 처리
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 대기열 등록 기능
+     */
+    public WaitlistResponse join(ReservationRequest request, Long memberId) {
+
+        if(!storeCache.exists(request.getStoreId())){
+            throw new RuntimeException("존재하지 않는 매장 ID입니다.");
+        }
+
+        LocalDateTime reservationTime = request.getReservationTime();
+
+        if(!ReservationEntity.isValidReservation(reservationTime, LocalDateTime.now())){
+            throw new ReservationTimeException("예약 시간 과거는 예약 할 수 없습니다.");
+        }
+
+        SlotQueue queue = queues.computeIfAbsent(new SlotKey(request.getStoreId(), reservationTime),
+                key -> new SlotQueue());
+        int position = queue.offer(new Waiter(memberId, request.getPartySize()));
+
+        if(position < 0){
+            throw new RuntimeException("이미 대기열에 등록되어 있습니다.");
+        }
+
+        return new WaitlistResponse(request.getStoreId(), TIME_FORMATTER.format(reservationTime), position);
+    }
+
+    /**
+     * 대기열 취소 기능
+     */
+    public void leave(ReservationRequest request, Long memberId) {
+
+        SlotQueue queue = queues.get(new SlotKey(request.getStoreId(), request.getReservationTime()));
+
+        if(queue == null || !queue.remove(memberId)){
+            throw new RuntimeException("대기열에 등록되어 있지 않습니다.");
+        }
+    }
+
+    /**
+     * 테이블 점유가 해제된 후 대기열 맨 앞 회원을 예약으로 승격
+     * 다른 요청이 먼저 테이블을 점유했거나 인원 수에 맞는 테이블이 없으면 대기 회원은 대기열 맨 앞에 그대로 남는다.
+     * 승격 중에 대기열을 취소한 회원은 되돌리지 않고 다음 회원을 승격한다.
+     */
+    public void promote(Long storeId, LocalDateTime reservationTime) {
+
+        SlotQueue queue = queues.get(new SlotKey(storeId, reservationTime));
+        if(queue == null || reservationTime.isBefore(LocalDateTime.now())){
+            return;
+        }
+
+        Waiter waiter = queue.poll();
+        if(waiter == null){
+            return;
+        }
+
+        // 승격하지 못하면 대기 회원을 맨 앞으로 되돌림 (승격 중에 대기열을 취소한 회원 제외)
+        // 배정(DB 점유 기록)과 저장은 같은 트랜잭션에서 하고, 롤백되면 인덱스 배정도 해제
+        Long tableId;
+        try{
+            tableId = requiresNew.execute(status -> {
+                if(queue.hasLeft(waiter.memberId())){
+                    return null;
+                }
+                Long allocated = slotAllocator.allocate(storeId, reservationTime, waiter.partySize());
+                if(allocated == null){
+                    return null;
+                }
+                TransactionHooks.afterRollback(() -> slotAllocator.release(storeId, allocated, reservationTime));
+
+                reservationRepository.save(ReservationEntity.builder()
+                        .member(memberRepository.getReferenceById(waiter.memberId()))
+                        .store(storeRepository.getReferenceById(storeId))
+                        .table(allocated == ReservationSlotIndex.STORE_LANE ? null : storeTableRepository.getReferenceById(allocated))
+                        .partySize(waiter.partySize())
+                        .reservationTime(reservationTime)
+                        .arrivalStatus(ArrivalStatus.WAITING)
+                        .status(ReservationStatus.PENDING)
+                        .build());
+                return allocated;
+            });
+        } catch(RuntimeException e){
+            log.error("대기열 예약 승격 실패 : {}", e.getMessage());
+            tableId = null;
+        }
+        if(tableId == null){
+            if(!queue.offerFirst(waiter)){
+                promote(storeId, reservationTime);
+            }
+            return;
+        }
+
+        queue.promoted(waiter);
+        log.info("대기열 예약 승격 : 매장 {}, 테이블 {}, 시간 {}, 회원 {}", storeId, tableId, reservationTime, waiter.memberId());
+    }
+
+    /*
+    * 예약 시간이 지난 대기열 정리
+    * */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void pruneExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        queues.keySet().removeIf(key -> key.reservationTime().isBefore(now));
+    }
+
+    private record SlotKey(Long storeId, LocalDateTime reservationTime) {
+    }
+
+    private record Waiter(Long memberId, int partySize) {
+    }
+
+    /*
+    * 대기 회원 큐 (크기는 별도 카운터로 유지하여 O(1) 조회)
+    * 회원 ID 집합으로 중복 등록을 막으며, 승격 중인 회원은 승격이 끝날 때까지 집합에 남는다.
+    * 승격 중인 회원의 취소는 취소 표시(left)로 남기고 승격 결과를 반영할 때 처리한다 (취소 / 되돌리기 / 완료는 큐 단위로 직렬화).
+    * */
+    private static class SlotQueue {
+
+        private final ConcurrentLinkedDeque<Waiter> waiters = new ConcurrentLinkedDeque<>();
+        private final Set<Long> members = ConcurrentHashMap.newKeySet();
+        private final Set<Long> left = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * @return 대기 순번, 이미 등록된 회원이면 -1
+         */
+        int offer(Waiter waiter) {
+            if(!members.add(waiter.memberId())){
+                return -1;
+            }
+            waiters.offerLast(waiter);
+            return size.incrementAndGet();
+        }
+
+        /**
+         * 승격하지 못한 회원을 맨 앞으로 되돌림
+         * @return 승격 중에 대기열을 취소한 회원이라 되돌리지 않았으면 false
+         */
+        synchronized boolean offerFirst(Waiter waiter) {
+            if(left.remove(waiter.memberId())){
+                members.remove(waiter.memberId());
+                return false;
+            }
+            waiters.offerFirst(waiter);
+            size.incrementAndGet();
+            return true;
+        }
+
+        Waiter poll() {
+            Waiter waiter = waiters.pollFirst();
+            if(waiter != null){
+                size.decrementAndGet();
+            }
+            return waiter;
+        }
+
+        synchronized void promoted(Waiter waiter) {
+            left.remove(waiter.memberId());
+            members.remove(waiter.memberId());
+        }
+
+        boolean hasLeft(Long memberId) {
+            return left.contains(memberId);
+        }
+
+        synchronized boolean remove(Long memberId) {
+            for(Waiter waiter : waiters){
+                // poll 과 경합해도 한쪽만 꺼내도록 항목 단위로 제거
+                if(waiter.memberId().equals(memberId) && waiters.removeFirstOccurrence(waiter)){
+                    size.decrementAndGet();
+                    members.remove(memberId);
+                    return true;
+                }
+            }
+            if(members.contains(memberId)){
+                left.add(memberId);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.zerobase.tablereservationservice.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터 (이중 해싱)
+ * mightContain 이 false 면 추가된 적이 없음이 확실하고, true 면 오탐일 수 있으므로 정확한 집합으로 다시 확인한다.
+ * 비트는 AtomicLongArray 에 저장하므로 조회는 잠금 없이 여러 스레드에서 동시에 할 수 있다.
+ * 삭제는 지원하지 않으므로 원소를 빼야 하면 새 필터를 만들어 교체한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long mask;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 예상 원소 수만큼 추가했을 때의 오탐 확률 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 는 0 보다 크고, falsePositiveRate 는 0 ~ 1 사이여야 합니다.");
+        }
+
+        // m = -n ln p / (ln 2)^2 를 2 의 거듭제곱으로 올림 (나머지 연산 대신 마스크)
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bitCount = Math.max(64, Long.highestOneBit((long) optimalBits - 1) << 1);
+
+        this.bits = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, bitCount >>> 6));
+        this.mask = ((long) bits.length() << 6) - 1;
+        // k = m / n ln 2
+        this.hashCount = Math.max(1, (int) Math.round((double) (mask + 1) / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & mask;
+            long word = 1L << bit;
+            bits.accumulateAndGet((int) (bit >>> 6), word, (current, set) -> current | set);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & mask;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+    * FNV-1a 64 비트 해시 후 비트 섞기
+    * */
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB93FE1A85A63L;
+        return h ^ (h >>> 33);
+    }
+}
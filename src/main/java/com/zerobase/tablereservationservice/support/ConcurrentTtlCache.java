@@ -0,0 +1,95 @@
+package com.zerobase.tablereservationservice.support;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 / TTL 제한 동시 캐시 (요청마다 조회되는 곳용)
+ * 조회는 ConcurrentHashMap 에서 잠금 없이 하고 만료 여부는 조회 시 확인한다. 사용 순서를 기록하지 않으므로 LRU 는 아니며,
+ * 최대 크기를 넘으면 한 스레드만 만료 항목을 지우고, 그래도 크면 임의 항목을 지워 최대 크기의 90% 까지 줄인다.
+ */
+public class ConcurrentTtlCache<K, V> {
+
+    private final int maxSize;
+    private final int sweepTarget;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** 정리 중인 스레드가 있으면 다른 스레드는 기다리지 않고 지나감 */
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public ConcurrentTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    public ConcurrentTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize 와 ttlMillis 는 0 보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.sweepTarget = Math.max(1, maxSize - maxSize / 10);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            // 그 사이 새로 넣은 값은 지우지 않음
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+
+        if (entries.size() > maxSize) {
+            sweep();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /*
+    * 만료 항목 제거 후에도 크면 임의 항목 제거
+    * */
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (entries.size() > sweepTarget && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
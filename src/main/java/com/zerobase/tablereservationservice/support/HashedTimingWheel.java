@@ -0,0 +1,153 @@
+package com.zerobase.tablereservationservice.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시드 타이밍 휠
+ * 등록 / 취소는 O(1) 이며, 만료 처리는 단일 워커 스레드가 tick 마다 한 버킷만 확인한다.
+ * 만료 작업은 워커 스레드에서 실행되므로 가벼운 작업만 등록해야 한다.
+ */
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long tick = 0;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize) {
+
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis 는 양수, wheelSize 는 2의 거듭제곱이어야 합니다.");
+        }
+
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 만료 작업 등록
+     * @param task 만료 시 실행할 작업
+     * @param delayMillis 지연 시간 (밀리초)
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 등록 후 아직 실행되지 않은 작업 수 (대략치)
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+
+            transferPending();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+
+            long ticks = timeout.deadline / tickNanos;
+            long target = Math.max(ticks, tick);
+
+            timeout.remainingRounds = (target - tick) / buckets.length;
+            buckets[(int) (target & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.error("타이밍 휠 만료 작업 실패 : {}", e.getMessage(), e);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    /*
+    * 등록된 만료 작업 핸들
+    * */
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.zerobase.tablereservationservice.support;
+
+import java.util.Arrays;
+
+/**
+ * long 원시 타입 해시 집합 (개방 주소법, 선형 탐사)
+ * 키마다 Long / 노드 객체를 만들지 않으므로 원소당 약 8~16 바이트만 사용한다.
+ * 0 은 빈 칸 표시로 사용하므로 저장할 수 없다. 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ */
+public class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private int threshold;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.table = new long[capacity];
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public boolean contains(long key) {
+        checkKey(key);
+        int mask = table.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == key) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(long key) {
+        checkKey(key);
+        int mask = table.length - 1;
+        int i = index(key, mask);
+        while (table[i] != 0) {
+            if (table[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = key;
+        if (++size > threshold) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * @return 제거되었으면 true
+     */
+    public boolean remove(long key) {
+        checkKey(key);
+        int mask = table.length - 1;
+        int i = index(key, mask);
+        while (table[i] != key) {
+            if (table[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // 뒤따르는 같은 군집의 키를 당겨 와서 탐사 경로가 끊기지 않도록 함
+        int gap = i;
+        for (int j = (gap + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+            int home = index(table[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                table[gap] = table[j];
+                gap = j;
+            }
+        }
+        table[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        threshold = (int) (table.length * LOAD_FACTOR);
+        int mask = table.length - 1;
+
+        for (long key : old) {
+            if (key != 0) {
+                int i = index(key, mask);
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = key;
+            }
+        }
+    }
+
+    /*
+    * 상위 / 하위 비트를 섞어 연속된 ID 도 고르게 분산
+    * */
+    private static int index(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("0 은 저장할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.zerobase.tablereservationservice.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷
+ * 남은 토큰 수와 마지막 충전 시각 대신 "버킷이 가득 차는 시각" 하나만 AtomicLong 에 저장하고 CAS 로 갱신한다.
+ * (가득 차는 시각 - 현재 시각) / 충전 간격 이 현재 비어 있는 토큰 수이다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long refillNanos;
+
+    /** 버킷이 가득 차는 시각 (nanoTime 기준, 지난 시각이면 가득 찬 상태) */
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity 최대 토큰 수 (연속 허용 요청 수)
+     * @param refillPerSecond 초당 충전 토큰 수
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 refillPerSecond 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 허용되면 0, 거절되면 토큰 하나가 충전될 때까지 남은 시간 (ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + refillNanos;
+            long deficit = next - nowNanos - capacity * refillNanos;
+
+            if (deficit > 0) {
+                return deficit;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 뒤 idleNanos 이상 사용되지 않았는지 여부 (제거해도 다음 요청에 영향 없음)
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() >= idleNanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.zerobase.tablereservationservice.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 메모리 상태를 반영하기 위한 헬퍼
+ * 트랜잭션 밖에서 호출되면 커밋 훅은 즉시 실행되고, 롤백 훅은 무시된다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public static void afterRollback(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
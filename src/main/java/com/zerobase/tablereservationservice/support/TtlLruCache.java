@@ -0,0 +1,144 @@
+package com.zerobase.tablereservationservice.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 / TTL 제한 LRU 캐시
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 항목별 만료 시간이 지나면 조회 시 제거한다.
+ * 조회 / 미스 / 크기 초과 제거 / 만료 제거 건수를 통계로 제공한다.
+ */
+public class TtlLruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /** 무효화 횟수 (조회 중 무효화된 값이 다시 적재되지 않도록 비교) */
+    private long invalidations;
+
+    public TtlLruCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    public TtlLruCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maxSize 와 ttlMillis 는 0 보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlLruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return entry.value();
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 로 적재 (loader 는 잠금 밖에서 호출, null 은 캐시하지 않음)
+     * 적재하는 동안 무효화가 있었다면 적재한 값은 반환만 하고 캐시하지 않는다.
+     */
+    public V getOrLoad(K key, Function<K, V> loader) {
+        long version;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            version = invalidations;
+        }
+
+        V loaded = loader.apply(key);
+
+        if (loaded != null) {
+            synchronized (this) {
+                if (version == invalidations) {
+                    entries.put(key, new Entry<>(loaded, clock.getAsLong() + ttlMillis));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    /**
+     * 만료된 항목 일괄 제거
+     * @return 제거한 항목 수
+     */
+    public synchronized int purgeExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt() <= now) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        expirations += removed;
+        return removed;
+    }
+
+    public synchronized Stats stats() {
+        long requests = hits + misses;
+        return new Stats(entries.size(), maxSize, hits, misses, evictions, expirations,
+                requests == 0 ? 0 : (double) hits / requests);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public record Stats(int size, int maxSize, long hits, long misses, long evictions, long expirations,
+                        double hitRate) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.zerobase.tablereservationservice.type;
+
+public enum PurgeStatus {
+
+    PENDING, // 삭제 대기
+    RUNNING, // 삭제 중
+    DONE     // 삭제 완료
+}
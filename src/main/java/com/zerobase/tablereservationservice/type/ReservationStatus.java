@@ -4,5 +4,13 @@ public enum ReservationStatus {
 
     PENDING, // 대기
     CONFIRMED, // 확정
-    CANCELLED //취소
+    CANCELLED, //취소
+    REJECTED; // 거절
+
+    /*
+    * 예약 시간을 점유하지 않는 종료 상태 여부
+    * */
+    public boolean isClosed() {
+        return this == CANCELLED || this == REJECTED;
+    }
 }
@@ -1,16 +1,27 @@
 package com.zerobase.tablereservationservice.web;
 
+import com.zerobase.tablereservationservice.except.PasswordHashingBusyException;
 import com.zerobase.tablereservationservice.model.Auth;
+import com.zerobase.tablereservationservice.security.JwtAuthenticationFilter;
+import com.zerobase.tablereservationservice.security.PasswordHasher;
 import com.zerobase.tablereservationservice.security.TokenProvider;
 import com.zerobase.tablereservationservice.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Slf4j
 @RestController
 @RequestMapping("/auth")
@@ -19,6 +30,7 @@ public class AuthController {
 
     private final MemberService memberService;
     private final TokenProvider tokenProvider;
+    private final PasswordHasher passwordHasher;
 
     /**
      * 회원 가입 API
@@ -37,23 +49,82 @@ public class AuthController {
      * }
      */
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody Auth.SignUp request){
-        var result = this.memberService.register(request);
-
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<?>> signup(@RequestBody Auth.SignUp request){
+        try {
+            return this.memberService.register(request)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> failure(e, HttpStatus.BAD_REQUEST));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(failure(e, HttpStatus.BAD_REQUEST));
+        }
     }
 
     /**
-     * 로그인 API
+     * 로그인 API (토큰 발급은 해시 스레드가 아닌 해시 후속 작업 스레드에서)
      */
     @PostMapping("/signin")
-    public ResponseEntity<?> signin(@RequestBody Auth.SignIn request){
+    public CompletableFuture<ResponseEntity<?>> signin(@RequestBody Auth.SignIn request){
+        try {
+            return this.memberService.authenticate(request)
+                    .<ResponseEntity<?>>thenApplyAsync(member -> ResponseEntity.ok(
+                            this.tokenProvider.issue(member.getId(), member.getUsername(), member.getRoles())),
+                            this.passwordHasher.callbackExecutor())
+                    .exceptionally(e -> failure(e, HttpStatus.UNAUTHORIZED));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(failure(e, HttpStatus.UNAUTHORIZED));
+        }
+    }
 
-        var member = this.memberService.authenticate(request);
-        var token = this.tokenProvider.generateToken(member.getUsername(),member.getRoles());
+    /**
+     * 토큰 재발급 API (비밀번호 확인 없이 리프레시 토큰으로)
+     * {
+     *     "refreshToken":"..."
+     * }
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Auth.Refresh request){
+        try {
+            return ResponseEntity.ok(this.tokenProvider.refresh(request.getRefreshToken()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 로그아웃 API (액세스 토큰과 함께 보낸 리프레시 토큰 폐기)
+     */
+    @PostMapping("/signout")
+    public ResponseEntity<?> signout(@RequestHeader(JwtAuthenticationFilter.TOKEN_HEADER) String authorization,
+                                     @RequestBody(required = false) Auth.Refresh request){
+        try {
+            this.tokenProvider.revoke(authorization.substring(JwtAuthenticationFilter.TOKEN_PREFIX.length()),
+                    request == null ? null : request.getRefreshToken());
+            return ResponseEntity.ok("로그아웃 되었습니다.");
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
 
-        return ResponseEntity.ok(token);
+    /*
+    * 비밀번호 해시 실행기 상태 조회 (대기열 / 거절 / 지연 시간)
+    * */
+    @GetMapping("/hash/status")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> hashStatus(){
+        return ResponseEntity.ok(this.passwordHasher.getStatus());
     }
 
+    /*
+    * 해시 대기열 초과는 503 + Retry-After, 그 외는 요청별 상태 코드
+    * */
+    private static ResponseEntity<?> failure(Throwable e, HttpStatus status) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
 
+        if(cause instanceof PasswordHashingBusyException){
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(cause.getMessage());
+        }
+        return ResponseEntity.status(status).body(cause.getMessage());
+    }
 }
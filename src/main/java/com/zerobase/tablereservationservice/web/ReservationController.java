@@ -1,9 +1,19 @@
 package com.zerobase.tablereservationservice.web;
 
+import com.zerobase.tablereservationservice.model.ApprovalResult;
+import com.zerobase.tablereservationservice.model.AvailabilityResponse;
 import com.zerobase.tablereservationservice.model.CheckApprovalRequest;
+import com.zerobase.tablereservationservice.model.HoldResponse;
+import com.zerobase.tablereservationservice.model.ReservationBatchResult;
+import com.zerobase.tablereservationservice.model.ReservationHistoryResponse;
+import com.zerobase.tablereservationservice.model.SweeperStatus;
+import com.zerobase.tablereservationservice.model.WaitlistResponse;
 import com.zerobase.tablereservationservice.model.ReservationRequest;
-import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import com.zerobase.tablereservationservice.security.MemberPrincipal;
+import com.zerobase.tablereservationservice.service.NoShowSweeper;
+import com.zerobase.tablereservationservice.service.ReservationHoldService;
 import com.zerobase.tablereservationservice.service.ReservationService;
+import com.zerobase.tablereservationservice.service.WaitlistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,6 +22,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/reservation")
@@ -19,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationHoldService reservationHoldService;
+    private final NoShowSweeper noShowSweeper;
+    private final WaitlistService waitlistService;
 
     /**
      * http://localhost:8080/reservation/register
@@ -26,7 +42,8 @@ public class ReservationController {
      * @param request
      * {
      *     "storeId":1,
-     *     "reservationTime" : "2024-12-28 18:30"
+     *     "reservationTime" : "2024-12-28 18:30",
+     *     "partySize" : 4
      * }
      *
      */
@@ -36,7 +53,7 @@ public class ReservationController {
                                                  Authentication authentication) {
 
         try{
-            MemberEntity member = (MemberEntity) authentication.getPrincipal();
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
             Long memberId = member.getId();
 
             reservationService.registerReservation(request,memberId);
@@ -49,6 +66,223 @@ public class ReservationController {
         }
     }
 
+    /**
+     * http://localhost:8080/reservation/register/batch
+     * 일괄 예약 등록 API (최대 100건, 건별 결과 반환)
+     * @param requests
+     * [
+     *     { "storeId":1, "reservationTime" : "2024-12-28 18:30", "partySize" : 2 },
+     *     { "storeId":2, "reservationTime" : "2024-12-28 19:30" }
+     * ]
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/register/batch")
+    public ResponseEntity<?> registerReservations(@RequestBody List<ReservationRequest> requests,
+                                                  Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+            Long memberId = member.getId();
+
+            List<ReservationBatchResult> results = reservationService.registerReservations(requests, memberId);
+            return ResponseEntity.ok(results);
+
+        }catch(Exception e){
+            log.error("일괄 예약 처리 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/hold
+     * 예약 임시 점유 API (일정 시간 내 확정하지 않으면 자동 만료, 회원당 진행 중인 임시 점유 수 제한)
+     * @param request
+     * {
+     *     "storeId":1,
+     *     "reservationTime" : "2024-12-28 18:30",
+     *     "partySize" : 4
+     * }
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/hold")
+    public ResponseEntity<?> hold(@RequestBody ReservationRequest request,
+                                  Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            HoldResponse response = reservationHoldService.hold(request, member.getId());
+            return ResponseEntity.ok(response);
+
+        }catch(Exception e){
+            log.error("임시 예약 처리 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/hold/commit?holdId={holdId}
+     * 임시 점유 확정 API
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/hold/commit")
+    public ResponseEntity<?> commitHold(@RequestParam String holdId,
+                                        Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            reservationHoldService.commit(holdId, member.getId());
+            return ResponseEntity.ok("예약이 성공적으로 완료 되었습니다.");
+
+        }catch(Exception e){
+            log.error("임시 예약 확정 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/hold/{holdId}
+     * 임시 점유 취소 API
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @DeleteMapping("/hold/{holdId}")
+    public ResponseEntity<?> cancelHold(@PathVariable String holdId,
+                                        Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            reservationHoldService.cancel(holdId, member.getId());
+            return ResponseEntity.ok("임시 예약이 취소 되었습니다.");
+
+        }catch(Exception e){
+            log.error("임시 예약 취소 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/cancel?reservationId={id}
+     * 예약 취소 API (취소된 시간은 대기열 맨 앞 회원에게 자동 배정)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/cancel")
+    public ResponseEntity<?> cancelReservation(@RequestParam Long reservationId,
+                                               Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            reservationService.cancelReservation(reservationId, member.getId());
+            return ResponseEntity.ok("예약이 취소 되었습니다.");
+
+        }catch(Exception e){
+            log.error("예약 취소 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/waitlist
+     * 예약 대기열 등록 API (예약 시간이 비면 자동으로 예약 등록)
+     * 대기열은 요청을 받은 서버의 메모리에만 저장되므로 서버 재시작 시 사라지고,
+     * 같은 서버에서 처리된 예약 취소 / 거절 / 임시 예약 만료로만 승격된다.
+     * @param request
+     * {
+     *     "storeId":1,
+     *     "reservationTime" : "2024-12-28 18:30",
+     *     "partySize" : 4
+     * }
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/waitlist")
+    public ResponseEntity<?> joinWaitlist(@RequestBody ReservationRequest request,
+                                          Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            WaitlistResponse response = waitlistService.join(request, member.getId());
+            return ResponseEntity.ok(response);
+
+        }catch(Exception e){
+            log.error("대기열 등록 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/waitlist/leave
+     * 예약 대기열 취소 API (승격 처리 중이면 승격이 실패해도 대기열로 되돌리지 않음)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @PostMapping("/waitlist/leave")
+    public ResponseEntity<?> leaveWaitlist(@RequestBody ReservationRequest request,
+                                           Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            waitlistService.leave(request, member.getId());
+            return ResponseEntity.ok("대기열 등록이 취소 되었습니다.");
+
+        }catch(Exception e){
+            log.error("대기열 취소 중에 문제가 생겼습니다. {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/availability?storeId={storeId}&from=2024-12-28&to=2024-12-31&partySize=4
+     * 예약 가능 시간 조회 API
+     * @param storeId 매장 ID
+     * @param from 시작 일자 (포함)
+     * @param to 종료 일자 (포함)
+     * @param partySize 인원 수 (생략 시 1명)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/availability")
+    public ResponseEntity<?> getAvailability(@RequestParam Long storeId,
+                                             @RequestParam String from,
+                                             @RequestParam String to,
+                                             @RequestParam(defaultValue = "1") int partySize) {
+
+        try{
+            AvailabilityResponse response = reservationService.getAvailability(storeId,
+                    LocalDate.parse(from), LocalDate.parse(to), partySize);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("getAvailability Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * http://localhost:8080/reservation/history?cursor={nextCursor}&size=20
+     * 내 예약 이력 조회 API (보관된 예약 포함, 최신순)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(@RequestParam(required = false) Long cursor,
+                                        @RequestParam(defaultValue = "20") int size,
+                                        Authentication authentication) {
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            ReservationHistoryResponse response = reservationService.getHistory(member.getId(), cursor, size);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("getHistory Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     /**
      * http://localhost:8080/reservation/confirm?reservationId={id}
      * 방문 확인 API
@@ -94,8 +328,9 @@ public class ReservationController {
         }
 
         try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
 
-            reservationService.checkApproval(request);
+            reservationService.checkApproval(request, member.getId());
             return ResponseEntity.ok("승인 / 예약 거절을 완료하였습니다.");
 
         } catch(RuntimeException e){
@@ -105,7 +340,40 @@ public class ReservationController {
         }
     }
 
+    /**
+     * http://localhost:8080/reservation/approval/batch
+     * 승인 / 예약 거절 일괄 처리 API (최대 100건, 건별 결과 반환)
+     * @param requests
+        [
+            { "reservationId":1, "status" : "CONFIRMED" },
+            { "reservationId":2, "status" : "REJECTED" }
+        ]
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @PostMapping("/approval/batch")
+    public ResponseEntity<?> approveReservations(@RequestBody List<CheckApprovalRequest> requests,
+                                                 Authentication authentication){
+
+        try{
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
+
+            List<ApprovalResult> results = reservationService.approveReservations(requests, member.getId());
+            return ResponseEntity.ok(results);
 
+        } catch(RuntimeException e){
 
+            log.error("approveReservations Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
 
+    /**
+     * http://localhost:8080/reservation/sweeper/status
+     * 미방문 처리 작업 진행 상태 조회 API
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping("/sweeper/status")
+    public ResponseEntity<SweeperStatus> getSweeperStatus() {
+        return ResponseEntity.ok(noShowSweeper.getStatus());
+    }
 }
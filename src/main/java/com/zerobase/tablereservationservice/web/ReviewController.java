@@ -1,8 +1,10 @@
 package com.zerobase.tablereservationservice.web;
 
+import com.zerobase.tablereservationservice.model.ReviewPageResponse;
 import com.zerobase.tablereservationservice.model.ReviewRequest;
+import com.zerobase.tablereservationservice.model.ReviewResponse;
 import com.zerobase.tablereservationservice.model.ReviewUpdateRequest;
-import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import com.zerobase.tablereservationservice.security.MemberPrincipal;
 import com.zerobase.tablereservationservice.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +28,8 @@ public class ReviewController {
      * @param
         {
         "storeId":1,
-        "review" : "리뷰 "
+        "review" : "리뷰 ",
+        "rating" : 5
         }
      * @param authentication
      */
@@ -37,7 +40,7 @@ public class ReviewController {
 
         try{
 
-            MemberEntity member = (MemberEntity) authentication.getPrincipal();
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
             Long memberId = member.getId();
 
             reviewService.registerReview(request,memberId);
@@ -56,7 +59,8 @@ public class ReviewController {
         {
             "id" :1,
             "storeId": 1,
-            "review" : "리뷰 수정 "
+            "review" : "리뷰 수정 ",
+            "rating" : 4
         }
      * @param authentication
      */
@@ -67,7 +71,7 @@ public class ReviewController {
 
         try{
 
-            MemberEntity member = (MemberEntity) authentication.getPrincipal();
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
             Long memberId = member.getId();
 
             reviewService.updateReview(request,memberId);
@@ -95,7 +99,7 @@ public class ReviewController {
                                           Authentication authentication) {
 
         try{
-            MemberEntity member = (MemberEntity) authentication.getPrincipal();
+            MemberPrincipal member = (MemberPrincipal) authentication.getPrincipal();
             Long memberId = member.getId();
 
             this.reviewService.deleteReview(id,memberId);
@@ -109,5 +113,43 @@ public class ReviewController {
 
     }
 
+    /**
+     * http://localhost:8080/review/list?storeId={storeId}&cursor={nextCursor}&size=20
+     * 매장 리뷰 목록 API (최신순, 본문 미리보기)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/list")
+    public ResponseEntity<?> getReviews(@RequestParam Long storeId,
+                                        @RequestParam(required = false) Long cursor,
+                                        @RequestParam(defaultValue = "20") int size) {
+
+        try{
+            ReviewPageResponse response = reviewService.getReviews(storeId, cursor, size);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("getReviews Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
 
+    /**
+     * http://localhost:8080/review/detail/{id}
+     * 리뷰 본문 조회 API
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/detail/{id}")
+    public ResponseEntity<?> getReview(@PathVariable Long id) {
+
+        try{
+            ReviewResponse response = reviewService.getReview(id);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("getReview Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
@@ -1,16 +1,25 @@
 package com.zerobase.tablereservationservice.web;
 
 import com.zerobase.tablereservationservice.model.StoreRequest;
-import com.zerobase.tablereservationservice.model.StoreResponse;
+import com.zerobase.tablereservationservice.model.StoreDetailResponse;
+import com.zerobase.tablereservationservice.model.StoreNearbyPageResponse;
+import com.zerobase.tablereservationservice.model.StorePurgeStatus;
+import com.zerobase.tablereservationservice.model.StoreSearchPageResponse;
+import com.zerobase.tablereservationservice.model.StoreSuggestResponse;
+import com.zerobase.tablereservationservice.model.StoreTableRequest;
+import com.zerobase.tablereservationservice.model.StoreTableResponse;
 import com.zerobase.tablereservationservice.model.StoreUpdateRequest;
+import com.zerobase.tablereservationservice.service.StorePurger;
 import com.zerobase.tablereservationservice.service.StoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +30,7 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StorePurger storePurger;
 
     /**
      * 매장 등록 API
@@ -28,7 +38,9 @@ public class StoreController {
      * {
      *   "name": "Test Store",
      *   "address": "123 address",
-     *   "description": "A test store for demonstration."
+     *   "description": "A test store for demonstration.",
+     *   "latitude": 37.5665,
+     *   "longitude": 126.9780
      * }
      */
     @PostMapping("/register")
@@ -61,7 +73,9 @@ public class StoreController {
         "id" :1,
         "name": "update Store",
         "address": "123 Main Street update",
-        "description": "A test store for demonstration update ."
+        "description": "A test store for demonstration update .",
+        "latitude": 37.5665,
+        "longitude": 126.9780
         }
      *
      */
@@ -145,16 +159,177 @@ public class StoreController {
     }
 
     /**
-     * 매장 검색 API
-     * http://localhost:8080/store/search?name={name}
+     * 매장 삭제 정리 작업 진행 상태 API
+     * http://localhost:8080/store/purge/{storeId}
+     */
+    @GetMapping("/purge/{storeId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> purgeStatus(@PathVariable Long storeId) {
+
+        try{
+            StorePurgeStatus status = storePurger.getStatus(storeId);
+            return ResponseEntity.ok(status);
+
+        } catch(RuntimeException e){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 테이블 등록 API
+     * @param request :
+     * {
+     *   "storeId": 1,
+     *   "name": "A1",
+     *   "seats": 4
+     * }
+     */
+    @PostMapping("/table")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> registerTable(@RequestBody StoreTableRequest request, Authentication authentication) {
+
+        try{
+            StoreTableResponse response = storeService.registerTable(request, authentication.getName());
+            return ResponseEntity.ok(response);
+
+        } catch(Exception e){
+            log.error("테이블 등록 중 오류 발생 : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 테이블 삭제 API
+     * http://localhost:8080/store/table/{tableId}
+     */
+    @DeleteMapping("/table/{tableId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> deleteTable(@PathVariable Long tableId, Authentication authentication) {
+
+        try{
+            storeService.deleteTable(tableId, authentication.getName());
+            return ResponseEntity.ok("테이블 삭제가 성공적으로 되었습니다.");
+
+        } catch(Exception e){
+            log.error("테이블 삭제 중 오류 발생 : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 테이블 목록 API
+     * http://localhost:8080/store/tables?storeId={storeId}
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/tables")
+    public ResponseEntity<List<StoreTableResponse>> getTables(@RequestParam Long storeId) {
+
+        return ResponseEntity.ok(storeService.getTables(storeId));
+    }
+
+    /**
+     * 매장 상세 조회 API (리뷰 수, 평균 별점, 1 ~ 5점 별점 분포 포함)
+     * http://localhost:8080/store/detail/{storeId}
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/detail/{storeId}")
+    public ResponseEntity<?> storeDetail(@PathVariable Long storeId) {
+
+        try{
+            StoreDetailResponse response = storeService.getStoreDetail(storeId);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("storeDetail Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 검색 API (keyset 페이지)
+     * http://localhost:8080/store/search?name={name}&cursor={nextCursor}&size=20
      * @param name 매장 이름
-     * @return
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
      */
     @PreAuthorize("hasAnyRole('MANAGER','USER')")
     @GetMapping("/search")
-    public ResponseEntity<List<StoreResponse>> searchStore(@RequestParam String name){
+    public ResponseEntity<?> searchStore(@RequestParam String name,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size){
+
+        try{
+            StoreSearchPageResponse response = storeService.searchStores(name, cursor, size);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("searchStore Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 검색 결과 스트리밍 API (NDJSON, 한 줄에 매장 하나, 매장 ID 순)
+     * http://localhost:8080/store/search/stream?name={name}
+     * @param name 매장 이름
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping(value = "/search/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamStore(@RequestParam String name) {
+
+        StreamingResponseBody body = out -> storeService.streamStores(name, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 매장 이름 자동완성 API
+     * http://localhost:8080/store/suggest?prefix={prefix}&size=5
+     * @param prefix 입력 중인 매장 이름
+     * @param size 최대 10
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<StoreSuggestResponse>> suggestStore(@RequestParam String prefix,
+                                                                   @RequestParam(defaultValue = "5") int size) {
+
+        return ResponseEntity.ok(storeService.suggestStores(prefix, size));
+    }
+
+    /**
+     * 주변 매장 조회 API (거리 오름차순)
+     * http://localhost:8080/store/nearby?lat=37.5665&lng=126.9780&radius=1000&page=0&size=20
+     * @param radius 반경 (m, 최대 20000)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (최대 50)
+     */
+    @PreAuthorize("hasAnyRole('MANAGER','USER')")
+    @GetMapping("/nearby")
+    public ResponseEntity<?> nearbyStore(@RequestParam double lat,
+                                         @RequestParam double lng,
+                                         @RequestParam(defaultValue = "1000") int radius,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size) {
+
+        try{
+            StoreNearbyPageResponse response = storeService.findNearbyStores(lat, lng, radius, page, size);
+            return ResponseEntity.ok(response);
+
+        } catch(RuntimeException e){
+            log.error("nearbyStore Error : {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 매장 캐시 통계 API (크기, 조회 / 미스 / 제거 / 만료 건수)
+     * http://localhost:8080/store/cache/stats
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> cacheStats() {
 
-        List<StoreResponse> stores = storeService.searchStores(name);
-        return ResponseEntity.ok(stores);
+        return ResponseEntity.ok(storeService.getCacheStats());
     }
 }
@@ -0,0 +1,133 @@
+package com.zerobase.tablereservationservice.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 상위 목록의 증분 갱신(등록 / 이름 변경 / 삭제 / 인기도 변경)이
+ * 전체 매장을 직접 정렬한 결과와 같은지 검증
+ */
+class StoreSuggestIndexTest {
+
+    private static final String ALPHABET = "abc";
+    private static final Comparator<StoreSuggestIndex.Suggestion> RANKING =
+            Comparator.comparingLong(StoreSuggestIndex.Suggestion::popularity).reversed()
+                    .thenComparing(StoreSuggestIndex.Suggestion::storeId);
+
+    private final StoreSuggestIndex index = new StoreSuggestIndex();
+    private final Map<Long, StoreSuggestIndex.Suggestion> stores = new HashMap<>();
+
+    @Test
+    void popularityDropPromotesStoreFromSiblingBranch() {
+        for (long storeId = 1; storeId <= StoreSuggestIndex.TOP_K; storeId++) {
+            put(storeId, "ab" + storeId);
+        }
+        put(100L, "ac");
+        updatePopularity(Map.of(1L, 50L, 100L, 5L));
+        assertMatchesBruteForce("a");
+
+        // 상위 목록에 없던 매장이 다른 가지에서 올라와야 함
+        Map<Long, Long> popularity = new HashMap<>();
+        for (long storeId = 1; storeId <= StoreSuggestIndex.TOP_K; storeId++) {
+            popularity.put(storeId, 10L);
+        }
+        popularity.put(100L, 5L);
+        updatePopularity(popularity);
+        assertMatchesBruteForce("a");
+
+        remove(3L);
+        assertMatchesBruteForce("a");
+        assertThat(index.suggest("a", StoreSuggestIndex.TOP_K).stream()
+                .map(StoreSuggestIndex.Suggestion::storeId)).contains(100L);
+    }
+
+    @Test
+    void incrementalTopKMatchesBruteForceRanking() {
+        Random random = new Random(42);
+        List<String> prefixes = prefixes(3);
+
+        for (int step = 0; step < 3000; step++) {
+            long storeId = 1 + random.nextInt(60);
+            int operation = random.nextInt(10);
+
+            if (operation < 5) {
+                // 등록 또는 이름 변경 (대소문자는 정규화되어야 함)
+                put(storeId, randomName(random));
+            } else if (operation < 7) {
+                remove(storeId);
+            } else {
+                Map<Long, Long> popularity = new HashMap<>();
+                stores.values().forEach(store -> popularity.put(store.storeId(), store.popularity()));
+                for (int i = 0; i < 5; i++) {
+                    popularity.put(1L + random.nextInt(60), (long) random.nextInt(20));
+                }
+                popularity.remove(1L + random.nextInt(60));
+                updatePopularity(popularity);
+            }
+
+            for (String prefix : prefixes) {
+                assertMatchesBruteForce(prefix);
+            }
+        }
+    }
+
+    private void put(Long storeId, String name) {
+        StoreSuggestIndex.Suggestion previous = stores.get(storeId);
+        index.put(storeId, name);
+        stores.put(storeId, new StoreSuggestIndex.Suggestion(storeId, name, previous == null ? 0 : previous.popularity()));
+    }
+
+    private void remove(Long storeId) {
+        index.remove(storeId);
+        stores.remove(storeId);
+    }
+
+    private void updatePopularity(Map<Long, Long> popularity) {
+        index.updatePopularity(popularity);
+        stores.replaceAll((storeId, store) ->
+                new StoreSuggestIndex.Suggestion(storeId, store.name(), popularity.getOrDefault(storeId, 0L)));
+    }
+
+    private void assertMatchesBruteForce(String prefix) {
+        List<StoreSuggestIndex.Suggestion> expected = stores.values().stream()
+                .filter(store -> StoreSearchIndex.normalize(store.name()).startsWith(prefix))
+                .sorted(RANKING)
+                .limit(StoreSuggestIndex.TOP_K)
+                .toList();
+
+        assertThat(index.suggest(prefix, StoreSuggestIndex.TOP_K))
+                .as("prefix '%s'", prefix)
+                .containsExactlyElementsOf(expected);
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            name.append(random.nextInt(4) == 0 ? Character.toUpperCase(c) : c);
+        }
+        return name.toString();
+    }
+
+    private static List<String> prefixes(int maxLength) {
+        List<String> prefixes = new ArrayList<>(List.of(""));
+        for (int i = 0; i < prefixes.size(); i++) {
+            String prefix = prefixes.get(i);
+            if (prefix.length() < maxLength) {
+                for (char c : ALPHABET.toCharArray()) {
+                    prefixes.add(prefix + c);
+                }
+            }
+        }
+        return prefixes;
+    }
+}
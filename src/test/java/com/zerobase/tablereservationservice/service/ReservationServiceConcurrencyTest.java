@@ -0,0 +1,303 @@
+package com.zerobase.tablereservationservice.service;
+
+import com.zerobase.tablereservationservice.cache.StoreCache;
+import com.zerobase.tablereservationservice.cache.StoreSnapshot;
+import com.zerobase.tablereservationservice.except.ReservationTimeException;
+import com.zerobase.tablereservationservice.index.ReservationSlotIndex;
+import com.zerobase.tablereservationservice.index.ReviewEligibilityIndex;
+import com.zerobase.tablereservationservice.index.SlotAllocator;
+import com.zerobase.tablereservationservice.model.ReservationRequest;
+import com.zerobase.tablereservationservice.persist.MemberRepository;
+import com.zerobase.tablereservationservice.persist.ReservationArchiveRepository;
+import com.zerobase.tablereservationservice.persist.ReservationRepository;
+import com.zerobase.tablereservationservice.persist.SlotClaimRepository;
+import com.zerobase.tablereservationservice.persist.StoreRepository;
+import com.zerobase.tablereservationservice.persist.StoreTableRepository;
+import com.zerobase.tablereservationservice.persist.entity.MemberEntity;
+import com.zerobase.tablereservationservice.persist.entity.ReservationEntity;
+import com.zerobase.tablereservationservice.persist.entity.StoreEntity;
+import com.zerobase.tablereservationservice.persist.entity.StoreTableEntity;
+import com.zerobase.tablereservationservice.persist.projection.ReservationSlotView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시 예약 요청 시 중복 예약이 발생하지 않는지 검증
+ * DB 는 조회(findSlots)와 저장(save)이 원자적이지 않은 저장소로 흉내내고,
+ * 점유 기록(SlotClaimRepository)은 겹치는 점유를 하나만 받는 저장소로 흉내낸다.
+ */
+class ReservationServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final List<ReservationEntity> saved = new CopyOnWriteArrayList<>();
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+    private final SlotClaimRepository slotClaimRepository = claimTable();
+
+    private ReservationSlotIndex reservationSlotIndex;
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationSlotIndex = new ReservationSlotIndex();
+        reservationService = newNode(reservationSlotIndex);
+    }
+
+    /*
+    * 노드 하나 구성 (점유 인덱스는 노드마다, 예약 / 점유 기록 저장소는 공유)
+    * */
+    private ReservationService newNode(ReservationSlotIndex reservationSlotIndex) {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        StoreTableRepository storeTableRepository = mock(StoreTableRepository.class);
+
+        StoreEntity store = StoreEntity.builder().id(1L).name("store").build();
+
+        when(memberRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(MemberEntity.builder().id(invocation.getArgument(0)).build()));
+        when(storeRepository.getReferenceById(1L)).thenReturn(store);
+        StoreCache storeCache = mock(StoreCache.class);
+        when(storeCache.find(1L)).thenReturn(Optional.of(new StoreSnapshot(1L, "store", null, null, null, null)));
+
+        when(reservationRepository.findSlots(anyLong(), any(), any()))
+                .thenAnswer(invocation -> saved.stream().map(ReservationServiceConcurrencyTest::toSlotView).toList());
+        when(storeTableRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> StoreTableEntity.builder().id(invocation.getArgument(0)).build());
+        when(reservationRepository.save(any(ReservationEntity.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1); // 확인과 저장 사이의 간격을 벌려 경합을 유도
+                    saved.add(invocation.getArgument(0));
+                    return invocation.getArgument(0);
+                });
+
+        return new ReservationService(reservationRepository, memberRepository,
+                storeRepository, mock(ReservationArchiveRepository.class),
+                mock(WaitlistService.class),
+                new SlotAllocator(reservationSlotIndex, reservationRepository, storeTableRepository, slotClaimRepository),
+                storeTableRepository,
+                storeCache,
+                new ReviewEligibilityIndex());
+    }
+
+    @Test
+    void sameSlotIsBookedOnlyOnceWhileIndexIsCold() throws InterruptedException {
+        LocalDateTime time = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        runConcurrently(i -> time);
+
+        assertThat(saved).hasSize(1);
+    }
+
+    @Test
+    void sameSlotIsBookedOnlyOnceWhenIndexIsWarm() throws InterruptedException {
+        reservationSlotIndex.markReady(LocalDateTime.now().minusHours(1));
+        LocalDateTime time = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        runConcurrently(i -> time);
+
+        assertThat(saved).hasSize(1);
+    }
+
+    @Test
+    void overlappingSlotsNeverDoubleBook() throws InterruptedException {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        runConcurrently(i -> base.plusMinutes(i * 7L));
+
+        assertThat(saved).isNotEmpty();
+        for (int i = 0; i < saved.size(); i++) {
+            for (int j = i + 1; j < saved.size(); j++) {
+                assertThat(conflicts(saved.get(i).getReservationTime(), saved.get(j).getReservationTime()))
+                        .isFalse();
+            }
+        }
+    }
+
+    @Test
+    void sameSlotFillsEachFittingTableOnce() throws InterruptedException {
+        reservationSlotIndex.markReady(LocalDateTime.now().minusHours(1));
+        reservationSlotIndex.addTables(1L, Map.of(10L, 2, 11L, 4, 12L, 4, 13L, 6));
+        LocalDateTime time = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        runConcurrently(i -> time, 4);
+
+        // 4인 이상 테이블 3개만 배정되고, 2인 테이블은 배정되지 않음
+        assertThat(saved).hasSize(3);
+        assertThat(saved.stream().map(r -> r.getTable().getId()))
+                .containsExactlyInAnyOrder(11L, 12L, 13L);
+    }
+
+    @Test
+    void nodesWithSeparateIndexesNeverDoubleBook() throws InterruptedException {
+        // 각 노드의 인덱스는 자기 배정만 알기 때문에 점유 기록이 없으면 노드마다 같은 테이블을 배정함
+        ReservationSlotIndex otherIndex = new ReservationSlotIndex();
+        ReservationService otherNode = newNode(otherIndex);
+        for (ReservationSlotIndex index : List.of(reservationSlotIndex, otherIndex)) {
+            index.markReady(LocalDateTime.now().minusHours(1));
+            index.addTables(1L, Map.of(10L, 2, 11L, 4));
+        }
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+
+        runConcurrently(i -> base.plusMinutes(i % 8 * 20L), 2,
+                i -> i % 2 == 0 ? reservationService : otherNode);
+
+        assertThat(saved).isNotEmpty();
+        for (int i = 0; i < saved.size(); i++) {
+            for (int j = i + 1; j < saved.size(); j++) {
+                ReservationEntity a = saved.get(i);
+                ReservationEntity b = saved.get(j);
+                assertThat(a.getTable().getId().equals(b.getTable().getId())
+                        && conflicts(a.getReservationTime(), b.getReservationTime()))
+                        .as("table %d at %s / %s", a.getTable().getId(), a.getReservationTime(), b.getReservationTime())
+                        .isFalse();
+            }
+        }
+    }
+
+    private void runConcurrently(SlotSupplier slots) throws InterruptedException {
+        runConcurrently(slots, 1);
+    }
+
+    private void runConcurrently(SlotSupplier slots, int partySize) throws InterruptedException {
+        runConcurrently(slots, partySize, i -> reservationService);
+    }
+
+    /*
+    * 실패한 요청은 모두 빈 테이블이 없다는 예약 시간 예외여야 함
+    * */
+    private void runConcurrently(SlotSupplier slots, int partySize, NodeSupplier nodes) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            long memberId = i + 1;
+            String time = slots.timeFor(i).format(FORMATTER);
+            ReservationService node = nodes.nodeFor(i);
+
+            tasks.add(() -> {
+                try {
+                    start.await();
+                    node.registerReservation(new ReservationRequest(1L, time, partySize), memberId);
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        tasks.forEach(executor::execute);
+        start.countDown();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(saved.size() + failures.size()).isEqualTo(THREADS);
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(ReservationTimeException.class)
+                .hasMessage("해당 시간에는 예약 가능한 테이블이 없습니다."));
+    }
+
+    private static boolean conflicts(LocalDateTime a, LocalDateTime b) {
+        return Math.abs(Duration.between(a, b).toMinutes()) <= ReservationSlotIndex.RESERVATION_MINUTES;
+    }
+
+    private static ReservationSlotView toSlotView(ReservationEntity reservation) {
+        return new ReservationSlotView() {
+            @Override
+            public Long getStoreId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getTableId() {
+                return reservation.getTable() == null ? null : reservation.getTable().getId();
+            }
+
+            @Override
+            public LocalDateTime getReservationTime() {
+                return reservation.getReservationTime();
+            }
+        };
+    }
+
+    /*
+    * 겹치는 유효한 점유가 없을 때만 기록하는 점유 기록 저장소 (조건 확인과 기록을 한 문장으로 하는 DB 와 같게 원자적으로)
+    * */
+    private static SlotClaimRepository claimTable() {
+        List<Claim> claims = new ArrayList<>();
+        SlotClaimRepository repository = mock(SlotClaimRepository.class);
+
+        when(repository.claimLane(anyLong(), anyLong(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    synchronized (claims) {
+                        Long laneId = invocation.getArgument(1);
+                        return claim(claims, invocation.getArgument(0), laneId, invocation.getArgument(2),
+                                lane -> lane.equals(laneId) || lane == ReservationSlotIndex.STORE_LANE);
+                    }
+                });
+        when(repository.claimStore(anyLong(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    synchronized (claims) {
+                        return claim(claims, invocation.getArgument(0), ReservationSlotIndex.STORE_LANE,
+                                invocation.getArgument(1), lane -> true);
+                    }
+                });
+        when(repository.deleteClaim(anyLong(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    synchronized (claims) {
+                        return claims.remove(new Claim(invocation.getArgument(0), invocation.getArgument(1),
+                                invocation.getArgument(2))) ? 1 : 0;
+                    }
+                });
+        return repository;
+    }
+
+    private static int claim(List<Claim> claims, Long storeId, Long laneId, LocalDateTime time,
+                             Predicate<Long> lanes) {
+        boolean taken = claims.stream().anyMatch(claim -> claim.storeId().equals(storeId)
+                && lanes.test(claim.laneId()) && conflicts(claim.reservationTime(), time));
+        if (taken) {
+            return 0;
+        }
+        claims.add(new Claim(storeId, laneId, time));
+        return 1;
+    }
+
+    private record Claim(Long storeId, Long laneId, LocalDateTime reservationTime) {
+    }
+
+    @FunctionalInterface
+    private interface SlotSupplier {
+        LocalDateTime timeFor(int index);
+    }
+
+    @FunctionalInterface
+    private interface NodeSupplier {
+        ReservationService nodeFor(int index);
+    }
+}
@@ -0,0 +1,128 @@
+package com.zerobase.tablereservationservice.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 개방 주소 집합의 추가 / 제거 / 조회가 HashSet 과 같은 결과를 내는지 검증
+ * (같은 칸으로 모이는 키의 제거, 확장 전후)
+ */
+class LongHashSetTest {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Test
+    void removingFromCollisionClusterKeepsRemainingKeysReachable() {
+        LongHashSet set = new LongHashSet();
+        List<Long> colliding = collidingKeys(6);
+
+        colliding.forEach(key -> assertThat(set.add(key)).isTrue());
+        assertThat(set.add(colliding.get(0))).isFalse();
+
+        // 군집 중간 키를 지워도 뒤쪽 키를 계속 찾을 수 있어야 함
+        assertThat(set.remove(colliding.get(1))).isTrue();
+        assertThat(set.remove(colliding.get(3))).isTrue();
+        assertThat(set.remove(colliding.get(3))).isFalse();
+
+        assertThat(set.contains(colliding.get(0))).isTrue();
+        assertThat(set.contains(colliding.get(1))).isFalse();
+        assertThat(set.contains(colliding.get(2))).isTrue();
+        assertThat(set.contains(colliding.get(3))).isFalse();
+        assertThat(set.contains(colliding.get(4))).isTrue();
+        assertThat(set.contains(colliding.get(5))).isTrue();
+        assertThat(set.size()).isEqualTo(4);
+    }
+
+    @Test
+    void resizeKeepsAllKeys() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        List<Long> keys = new ArrayList<>(collidingKeys(4));
+        for (long key = 1; key <= 100; key++) {
+            keys.add(key);
+            keys.add(-key);
+        }
+        keys.add(Long.MIN_VALUE);
+        keys.add(Long.MAX_VALUE);
+
+        for (Long key : keys) {
+            assertThat(set.add(key)).isEqualTo(expected.add(key));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (Long key : keys) {
+            assertThat(set.contains(key)).isTrue();
+        }
+        assertThat(set.contains(101)).isFalse();
+    }
+
+    @Test
+    void randomOperationsMatchHashSet() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+
+        for (int step = 0; step < 200_000; step++) {
+            // 좁은 범위에서 뽑아 군집 / 재추가 / 없는 키 제거가 자주 일어나도록 함
+            int bound = step < 100_000 ? 2_000 : 200;
+            long key = random.nextInt(bound) - bound / 2;
+            if (key == 0) {
+                continue;
+            }
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(set.add(key)).isEqualTo(expected.add(key));
+                case 1 -> assertThat(set.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(set.contains(key)).isEqualTo(expected.contains(key));
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+
+        for (long key = -1_000; key < 1_000; key++) {
+            if (key != 0) {
+                assertThat(set.contains(key)).isEqualTo(expected.contains(key));
+            }
+        }
+
+        set.clear();
+        assertThat(set.size()).isZero();
+        assertThat(set.contains(expected.isEmpty() ? 1 : expected.iterator().next())).isFalse();
+    }
+
+    @Test
+    void zeroKeyIsRejected() {
+        LongHashSet set = new LongHashSet();
+
+        assertThatThrownBy(() -> set.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.contains(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.remove(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+    * 초기 용량에서 첫 번째 키와 같은 칸으로 해시되는 키 (LongHashSet.index 와 같은 계산)
+    * */
+    private static List<Long> collidingKeys(int count) {
+        List<Long> keys = new ArrayList<>();
+        int home = index(1, INITIAL_CAPACITY - 1);
+
+        for (long key = 1; keys.size() < count; key++) {
+            if (index(key, INITIAL_CAPACITY - 1) == home) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static int index(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
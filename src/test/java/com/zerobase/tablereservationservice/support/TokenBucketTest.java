@@ -0,0 +1,69 @@
+package com.zerobase.tablereservationservice.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷의 연속 허용 / 거절 시 대기 시간 / 충전 검증 (시각은 직접 주입)
+ */
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long HALF_SECOND = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWaitTime() {
+        TokenBucket bucket = new TokenBucket(3, 2, START);
+
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+
+        // 초당 2 개 충전이므로 다음 토큰까지 0.5 초
+        assertThat(bucket.tryAcquire(START)).isEqualTo(HALF_SECOND);
+        assertThat(bucket.tryAcquire(START + 200_000_000L)).isEqualTo(300_000_000L);
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(1, 2, START);
+
+        assertThat(bucket.tryAcquire(START)).isZero();
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(START)).isEqualTo(HALF_SECOND);
+        }
+        assertThat(bucket.tryAcquire(START + HALF_SECOND)).isZero();
+    }
+
+    @Test
+    void refillsOverTimeWithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 2, START);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        long now = START + HALF_SECOND;
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(HALF_SECOND);
+
+        // 오래 쉬어도 capacity 개까지만 연속 허용
+        now += TimeUnit.SECONDS.toNanos(10);
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(HALF_SECOND);
+    }
+
+    @Test
+    void idleOnlyAfterRefilledAndUnusedForIdlePeriod() {
+        TokenBucket bucket = new TokenBucket(2, 2, START);
+        long idle = TimeUnit.SECONDS.toNanos(60);
+
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.isIdle(START + idle, idle)).isFalse();
+        assertThat(bucket.isIdle(START + HALF_SECOND + idle, idle)).isTrue();
+    }
+}